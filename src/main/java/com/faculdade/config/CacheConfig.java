@@ -0,0 +1,26 @@
+package com.faculdade.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuração do cache local de usuários.
+ * Os caches são criados pelo Spring Boot a partir das propriedades spring.cache.*,
+ * usando Caffeine com limite de tamanho, TTL e estatísticas expostas como métricas.
+ * Só são cacheadas projeções de leitura (UserDTO e UserVersion), nunca a entidade User:
+ * credenciais e versão usadas nas escritas são sempre lidas do banco.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /**
+     * Cache de ID para UserDTO.
+     */
+    public static final String USERS_BY_ID = "usersById";
+
+    /**
+     * Cache de ID para UserVersion, usado nas requisições condicionais.
+     */
+    public static final String USER_VERSIONS_BY_ID = "userVersionsById";
+}
@@ -0,0 +1,27 @@
+package com.faculdade.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuração das métricas da aplicação.
+ * Habilita @Timed nos beans do Spring (usado em UserServiceImpl, timer user.service).
+ * As chamadas aos repositórios são medidas pelo Spring Boot (spring.data.repository.invocations),
+ * e os histogramas de percentis são habilitados em application.properties.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Aspecto que registra um timer para os métodos anotados com @Timed.
+     *
+     * @param meterRegistry o registro de métricas
+     * @return o aspecto de medição
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
@@ -0,0 +1,46 @@
+package com.faculdade.config;
+
+import com.faculdade.security.TargetStrengthBCryptPasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+
+/**
+ * Configuração do encoder de senhas, compartilhada pelas variantes servlet e reativa.
+ */
+@Configuration
+public class PasswordEncoderConfig {
+
+    private static final String BCRYPT_ID = "bcrypt";
+
+    /**
+     * Configura o encoder de senhas usando BCrypt com delegação por prefixo.
+     * Garante que as senhas sejam armazenadas de forma segura e criptografada.
+     * O custo vem da configuração e, se houver tempo alvo, é calibrado para o host na inicialização.
+     * Hashes legados sem prefixo continuam sendo aceitos.
+     *
+     * @param strength o custo mínimo do BCrypt
+     * @param maxStrength o custo máximo testado na calibração
+     * @param targetMillis o tempo alvo de um hash (0 desativa a calibração)
+     * @return o encoder de senhas
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder(@Value("${password.bcrypt.strength:10}") int strength,
+                                           @Value("${password.bcrypt.max-strength:14}") int maxStrength,
+                                           @Value("${password.bcrypt.target-millis:0}") long targetMillis) {
+        int targetStrength = targetMillis > 0
+                ? TargetStrengthBCryptPasswordEncoder.calibrate(strength, maxStrength, targetMillis)
+                : strength;
+
+        TargetStrengthBCryptPasswordEncoder bcrypt = new TargetStrengthBCryptPasswordEncoder(targetStrength);
+
+        DelegatingPasswordEncoder passwordEncoder =
+                new DelegatingPasswordEncoder(BCRYPT_ID, Map.of(BCRYPT_ID, bcrypt));
+        passwordEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return passwordEncoder;
+    }
+}
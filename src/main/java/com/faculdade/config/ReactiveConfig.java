@@ -0,0 +1,56 @@
+package com.faculdade.config;
+
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import javax.sql.DataSource;
+
+/**
+ * Configuração da variante reativa (WebFlux + R2DBC), ativada pelo perfil Spring "reactive".
+ * O esquema do banco continua sendo gerado pelo Hibernate; o acesso reativo
+ * usa o mesmo banco através do ConnectionFactory configurado em spring.r2dbc.*.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveConfig {
+
+    /**
+     * DataSource JDBC mantido na variante reativa para o Hibernate gerar o esquema
+     * e para a construção do EmailExistenceFilter. A configuração automática do Spring Boot
+     * não o cria quando há um ConnectionFactory R2DBC; nenhuma requisição HTTP o utiliza.
+     *
+     * @param properties as propriedades do DataSource (spring.datasource.*)
+     * @return o DataSource JDBC
+     */
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().build();
+    }
+
+    /**
+     * Cliente R2DBC usado pelo ReactiveUserRepository.
+     *
+     * @param connectionFactory a fábrica de conexões R2DBC
+     * @return o cliente de banco de dados reativo
+     */
+    @Bean
+    public DatabaseClient databaseClient(ConnectionFactory connectionFactory) {
+        return DatabaseClient.create(connectionFactory);
+    }
+
+    /**
+     * Usa o Netty como servidor, já que o Tomcat também está no classpath para a variante servlet
+     * e teria precedência na configuração automática.
+     *
+     * @return a fábrica do servidor Netty
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
@@ -0,0 +1,81 @@
+package com.faculdade.config;
+
+import com.faculdade.filter.JwtAuthenticationWebFilter;
+import com.faculdade.security.JwtTokenProvider;
+import com.faculdade.security.VerifiedTokenCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.actuate.autoconfigure.security.reactive.EndpointRequest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.HttpStatusServerEntryPoint;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+
+/**
+ * Configuração de segurança da variante reativa.
+ * Aplica as mesmas regras de acesso de SecurityConfig, com autenticação stateless por JWT.
+ */
+@Configuration
+@EnableWebFluxSecurity
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveSecurityConfig {
+
+    /**
+     * Cadeia de segurança do endpoint de coleta do Prometheus, sem o filtro JWT (ver SecurityConfig).
+     *
+     * @param http o objeto ServerHttpSecurity para configuração
+     * @return a cadeia de filtros do endpoint de métricas
+     */
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public SecurityWebFilterChain metricsSecurityWebFilterChain(ServerHttpSecurity http) {
+        return http
+            .securityMatcher(EndpointRequest.to("prometheus"))
+            .csrf(ServerHttpSecurity.CsrfSpec::disable)
+            .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+            .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+            .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+            .authorizeExchange(exchanges -> exchanges.anyExchange().permitAll())
+            .build();
+    }
+
+    /**
+     * Configura a cadeia de filtros de segurança reativa.
+     *
+     * @param http o objeto ServerHttpSecurity para configuração
+     * @param jwtTokenProvider o provedor de tokens JWT
+     * @param verifiedTokenCache o cache de tokens já verificados
+     * @param meterRegistry o registro de métricas das rejeições de tokens
+     * @return a cadeia de filtros de segurança
+     */
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http,
+                                                         JwtTokenProvider jwtTokenProvider,
+                                                         VerifiedTokenCache verifiedTokenCache,
+                                                         MeterRegistry meterRegistry) {
+        return http
+            .csrf(ServerHttpSecurity.CsrfSpec::disable)
+            .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+            .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+            .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+            // Requisições sem token válido recebem 401
+            .exceptionHandling(ex -> ex.authenticationEntryPoint(new HttpStatusServerEntryPoint(HttpStatus.UNAUTHORIZED)))
+            .authorizeExchange(exchanges -> exchanges
+                // Endpoints públicos
+                .pathMatchers("/api/auth/**").permitAll()
+                .pathMatchers("/api/users/register").permitAll()
+                // Qualquer outra requisição requer autenticação
+                .anyExchange().authenticated()
+            )
+            .addFilterAt(new JwtAuthenticationWebFilter(jwtTokenProvider, verifiedTokenCache, meterRegistry),
+                    SecurityWebFiltersOrder.AUTHENTICATION)
+            .build();
+    }
+}
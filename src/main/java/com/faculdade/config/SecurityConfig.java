@@ -2,8 +2,14 @@ package com.faculdade.config;
 
 import com.faculdade.filter.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -11,45 +17,37 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 /**
  * Configuração de segurança da aplicação.
  * Define as políticas de autenticação, autorização e filtros de segurança.
  * Implementa autenticação stateless com JWT.
+ * Aplica-se à variante servlet; a variante reativa usa ReactiveSecurityConfig.
  */
 @Configuration
 @EnableWebSecurity
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final UserDetailsService userDetailsService;
 
-    /**
-     * Configura o encoder de senhas usando BCrypt.
-     * Garante que as senhas sejam armazenadas de forma segura e criptografada.
-     *
-     * @return o encoder de senhas
-     */
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
-
     /**
      * Configura o provedor de autenticação DAO.
      *
+     * @param passwordEncoder o encoder de senhas
      * @return o provedor de autenticação
      */
     @Bean
-    public DaoAuthenticationProvider authenticationProvider() {
+    public DaoAuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
         return authProvider;
     }
 
@@ -65,20 +63,58 @@ public class SecurityConfig {
         return config.getAuthenticationManager();
     }
 
+    /**
+     * Impede que o filtro JWT, por ser um bean, seja registrado também diretamente no container
+     * de servlets. Assim ele só é executado dentro de securityFilterChain.
+     *
+     * @return o registro desabilitado do filtro JWT
+     */
+    @Bean
+    public FilterRegistrationBean<JwtAuthenticationFilter> jwtAuthenticationFilterRegistration() {
+        FilterRegistrationBean<JwtAuthenticationFilter> registration = new FilterRegistrationBean<>(jwtAuthenticationFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    /**
+     * Cadeia de segurança do endpoint de coleta do Prometheus (/actuator/prometheus).
+     * Avaliada antes da cadeia principal e sem o filtro JWT, para que o coletor
+     * não precise de token nem pague o custo da verificação.
+     *
+     * @param http o objeto HttpSecurity para configuração
+     * @return a cadeia de filtros do endpoint de métricas
+     * @throws Exception se houver erro na configuração
+     */
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public SecurityFilterChain metricsSecurityFilterChain(HttpSecurity http) throws Exception {
+        http
+            .securityMatcher(EndpointRequest.to("prometheus"))
+            .csrf(csrf -> csrf.disable())
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .authorizeHttpRequests(authz -> authz.anyRequest().permitAll());
+
+        return http.build();
+    }
+
     /**
      * Configura a cadeia de filtros de segurança HTTP.
      * Define quais endpoints são públicos e quais requerem autenticação.
      *
      * @param http o objeto HttpSecurity para configuração
+     * @param authenticationProvider o provedor de autenticação DAO
      * @return a cadeia de filtros de segurança
      * @throws Exception se houver erro na configuração
      */
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                                   DaoAuthenticationProvider authenticationProvider) throws Exception {
         http
             .csrf().disable()
             .sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS)
             .and()
+            // Requisições sem token válido recebem 401 em vez do 403 padrão
+            .exceptionHandling(ex -> ex.authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
             .authorizeHttpRequests(authz -> authz
                 // Endpoints públicos
                 .requestMatchers("/api/auth/**").permitAll()
@@ -92,7 +128,7 @@ public class SecurityConfig {
                 // Qualquer outra requisição requer autenticação
                 .anyRequest().authenticated()
             )
-            .authenticationProvider(authenticationProvider())
+            .authenticationProvider(authenticationProvider)
             .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
 
         // Habilita o H2 Console (apenas para desenvolvimento)
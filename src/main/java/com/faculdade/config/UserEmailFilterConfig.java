@@ -0,0 +1,42 @@
+package com.faculdade.config;
+
+import com.faculdade.service.EmailExistenceFilter;
+import com.faculdade.service.UserEmailFilterListener;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuração que liga o EmailExistenceFilter às escritas de usuários feitas pelo Hibernate.
+ * O listener é registrado diretamente no EventListenerRegistry, mantendo a entidade User
+ * livre de dependências da camada de serviço.
+ */
+@Configuration
+public class UserEmailFilterConfig {
+
+    /**
+     * Registra o listener que mantém o filtro de emails atualizado após inserções,
+     * atualizações e remoções de usuários.
+     *
+     * @param entityManagerFactory a fábrica de EntityManager do JPA
+     * @param emailExistenceFilter o filtro de emails
+     * @return o listener registrado
+     */
+    @Bean
+    public UserEmailFilterListener userEmailFilterListener(EntityManagerFactory entityManagerFactory,
+                                                           EmailExistenceFilter emailExistenceFilter) {
+        UserEmailFilterListener listener = new UserEmailFilterListener(emailExistenceFilter);
+
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, listener);
+        registry.appendListeners(EventType.POST_UPDATE, listener);
+        registry.appendListeners(EventType.POST_DELETE, listener);
+
+        return listener;
+    }
+}
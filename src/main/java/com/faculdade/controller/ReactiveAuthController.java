@@ -0,0 +1,57 @@
+package com.faculdade.controller;
+
+import com.faculdade.dto.AuthResponse;
+import com.faculdade.dto.CreateUserRequest;
+import com.faculdade.dto.LoginRequest;
+import com.faculdade.dto.UserDTO;
+import com.faculdade.service.ReactiveAuthService;
+import com.faculdade.service.ReactiveUserService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+/**
+ * Controlador de autenticação da variante reativa.
+ * Expõe os mesmos endpoints de AuthController, sobre WebFlux.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/api/auth")
+@RequiredArgsConstructor
+@Tag(name = "Autenticação", description = "Endpoints para autenticação de usuários")
+public class ReactiveAuthController {
+
+    private final ReactiveAuthService authService;
+    private final ReactiveUserService userService;
+
+    /**
+     * Autentica um usuário e retorna um token JWT.
+     *
+     * @param loginRequest dados de login (email e senha)
+     * @return resposta com token JWT
+     */
+    @PostMapping("/login")
+    @Operation(summary = "Autenticar usuário", description = "Autentica um usuário e retorna um token JWT")
+    public Mono<ResponseEntity<AuthResponse>> login(@Valid @RequestBody LoginRequest loginRequest) {
+        return authService.authenticate(loginRequest).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Registra um novo usuário no sistema.
+     *
+     * @param createUserRequest dados do novo usuário
+     * @return resposta com os dados do usuário criado
+     */
+    @PostMapping("/register")
+    @Operation(summary = "Registrar novo usuário", description = "Cria um novo usuário no sistema")
+    public Mono<ResponseEntity<UserDTO>> register(@Valid @RequestBody CreateUserRequest createUserRequest) {
+        return userService.createUser(createUserRequest)
+                .map(user -> ResponseEntity.status(HttpStatus.CREATED).body(user));
+    }
+}
@@ -0,0 +1,252 @@
+package com.faculdade.controller;
+
+import com.faculdade.dto.BulkCreateUsersResponse;
+import com.faculdade.dto.CreateUserRequest;
+import com.faculdade.dto.UpdateUserRequest;
+import com.faculdade.dto.UserDTO;
+import com.faculdade.dto.UserPage;
+import com.faculdade.exception.BulkRequestTooLargeException;
+import com.faculdade.service.ReactiveUserService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Controlador de usuários da variante reativa.
+ * Expõe os endpoints de UserController sobre WebFlux.
+ * Todos os endpoints requerem autenticação JWT.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/api/users")
+@RequiredArgsConstructor
+@Tag(name = "Usuários", description = "Endpoints para gerenciamento de usuários")
+@SecurityRequirement(name = "bearer-jwt")
+public class ReactiveUserController {
+
+    private final ReactiveUserService userService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${api.users.bulk.max-size:1000}")
+    private int bulkMaxSize;
+
+    @Value("${api.users.bulk.max-body-size:1MB}")
+    private DataSize bulkMaxBodySize;
+
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    /**
+     * Lista os usuários de forma paginada, com as requisições condicionais de UserController.
+     *
+     * @param page o número da página (modo offset)
+     * @param size o tamanho da página
+     * @param cursor o cursor da página anterior (modo keyset)
+     * @param exchange a troca HTTP, usada para avaliar as condições e montar o link da próxima página
+     * @return a lista de usuários da página, ou vazio se a resposta for 304
+     */
+    @GetMapping
+    @Operation(summary = "Listar usuários", description = "Retorna uma página de usuários cadastrados")
+    public Mono<ResponseEntity<List<UserDTO>>> getAllUsers(@RequestParam(required = false) Integer page,
+                                                           @RequestParam(required = false) Integer size,
+                                                           @RequestParam(required = false) String cursor,
+                                                           ServerWebExchange exchange) {
+        return userService.getUsersVersion().flatMap(version -> {
+            if (exchange.checkNotModified(UserETags.forCollection(version),
+                    Instant.ofEpochMilli(version.getLastModified()))) {
+                return Mono.empty();
+            }
+            Mono<UserPage> users = page != null
+                    ? userService.getUsers(page, size)
+                    : userService.getUsersAfter(cursor, size);
+            return users.map(userPage -> toResponse(userPage, exchange.getRequest()));
+        });
+    }
+
+    /**
+     * Monta a resposta de uma página, com os headers da próxima página.
+     */
+    private static ResponseEntity<List<UserDTO>> toResponse(UserPage userPage, ServerHttpRequest request) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (userPage.hasNext()) {
+            UriComponentsBuilder next = UriComponentsBuilder.fromUri(request.getURI())
+                    .replaceQueryParam("size", userPage.getSize());
+            if (userPage.getNextCursor() != null) {
+                next.replaceQueryParam("cursor", userPage.getNextCursor());
+                response.header(NEXT_CURSOR_HEADER, userPage.getNextCursor());
+            } else {
+                next.replaceQueryParam("page", userPage.getNextPage());
+            }
+            response.header(HttpHeaders.LINK, "<" + next.toUriString() + ">; rel=\"next\"");
+        }
+        return response.body(userPage.getContent());
+    }
+
+    /**
+     * Cadastra vários usuários de uma vez, como em UserController.
+     * O corpo é acumulado até api.users.bulk.max-body-size; acima disso, a leitura é
+     * interrompida com 413 antes de o JSON ser interpretado.
+     *
+     * @param request a requisição com a lista de novos usuários no corpo
+     * @return o resultado de cada item
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Cadastrar usuários em massa",
+            description = "Cria vários usuários de uma vez. Falhas em um item não desfazem os demais")
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(required = true, content = @Content(
+            array = @ArraySchema(schema = @Schema(implementation = CreateUserRequest.class))))
+    public Mono<ResponseEntity<BulkCreateUsersResponse>> createUsers(ServerHttpRequest request) {
+        return readBulkRequest(request)
+                .flatMap(userService::createUsers)
+                .map(ResponseEntity::ok);
+    }
+
+    /**
+     * Lê a lista do cadastro em massa com o corpo limitado em bytes. Itens null são mantidos
+     * para que o serviço os reporte como inválidos na posição em que vieram.
+     */
+    private Mono<List<CreateUserRequest>> readBulkRequest(ServerHttpRequest request) {
+        long maxBytes = bulkMaxBodySize.toBytes();
+        if (request.getHeaders().getContentLength() > maxBytes) {
+            return Mono.error(new BulkRequestTooLargeException(
+                    "O corpo do cadastro em massa aceita no máximo " + maxBytes + " bytes"));
+        }
+
+        Jackson2JsonDecoder decoder = new Jackson2JsonDecoder(objectMapper);
+        decoder.setMaxInMemorySize((int) Math.min(maxBytes, Integer.MAX_VALUE));
+
+        return decoder.decodeToMono(request.getBody(), ResolvableType.forClass(JsonNode.class),
+                        MediaType.APPLICATION_JSON, Map.of())
+                .cast(JsonNode.class)
+                .onErrorMap(DataBufferLimitException.class, e -> new BulkRequestTooLargeException(
+                        "O corpo do cadastro em massa aceita no máximo " + maxBytes + " bytes"))
+                .onErrorMap(DecodingException.class, e -> new ServerWebInputException("Corpo da requisição inválido"))
+                .switchIfEmpty(Mono.error(() -> new ServerWebInputException("Corpo da requisição inválido")))
+                .map(this::toBulkRequests);
+    }
+
+    private List<CreateUserRequest> toBulkRequests(JsonNode body) {
+        if (!body.isArray()) {
+            throw new ServerWebInputException("O corpo deve ser uma lista de usuários");
+        }
+        if (body.size() > bulkMaxSize) {
+            throw new BulkRequestTooLargeException(
+                    "O cadastro em massa aceita no máximo " + bulkMaxSize + " usuários por requisição");
+        }
+
+        List<CreateUserRequest> requests = new ArrayList<>(body.size());
+        for (JsonNode item : body) {
+            try {
+                requests.add(item.isNull() ? null : objectMapper.treeToValue(item, CreateUserRequest.class));
+            } catch (JsonProcessingException e) {
+                throw new ServerWebInputException("Corpo da requisição inválido");
+            }
+        }
+        return requests;
+    }
+
+    /**
+     * Exporta todos os usuários no formato NDJSON, escritos à medida que são lidos do banco.
+     *
+     * @return os usuários, um JSON por linha
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Exportar usuários", description = "Exporta todos os usuários em NDJSON, em streaming")
+    public Flux<UserDTO> exportUsers() {
+        return userService.exportUsers();
+    }
+
+    /**
+     * Busca um usuário pelo ID, com as requisições condicionais de UserController.
+     *
+     * @param id o ID do usuário
+     * @param exchange a troca HTTP, usada para avaliar If-None-Match e If-Modified-Since
+     * @return os dados do usuário, ou vazio se a resposta for 304
+     */
+    @GetMapping("/{id}")
+    @Operation(summary = "Obter usuário por ID", description = "Retorna os dados de um usuário específico")
+    public Mono<ResponseEntity<UserDTO>> getUserById(@PathVariable Long id, ServerWebExchange exchange) {
+        return userService.getUserVersion(id).flatMap(version -> {
+            if (exchange.checkNotModified(UserETags.forUser(version), Instant.ofEpochMilli(version.getLastModified()))) {
+                return Mono.empty();
+            }
+            return userService.getUserById(id).map(ResponseEntity::ok);
+        });
+    }
+
+    /**
+     * Atualiza um usuário existente, com a condição If-Match de UserController.
+     *
+     * @param id o ID do usuário
+     * @param createUserRequest dados atualizados
+     * @param ifMatch a ETag da versão que o cliente leu (opcional)
+     * @return os dados atualizados do usuário
+     */
+    @PutMapping("/{id}")
+    @Operation(summary = "Atualizar usuário", description = "Atualiza os dados de um usuário existente")
+    public Mono<ResponseEntity<UserDTO>> updateUser(@PathVariable Long id,
+                                                    @Valid @RequestBody CreateUserRequest createUserRequest,
+                                                    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return userService.updateUser(id, createUserRequest, UserETags.expectedVersion(ifMatch))
+                .map(ResponseEntity::ok);
+    }
+
+    /**
+     * Atualiza parcialmente um usuário, como em UserController.
+     *
+     * @param id o ID do usuário
+     * @param updateUserRequest os campos a alterar
+     * @param ifMatch a ETag da versão que o cliente leu (opcional)
+     * @return os dados atualizados do usuário
+     */
+    @PatchMapping(value = "/{id}", consumes = {MediaType.APPLICATION_JSON_VALUE, "application/merge-patch+json"})
+    @Operation(summary = "Atualizar usuário parcialmente",
+            description = "Altera apenas os campos informados; a senha só é recalculada se for enviada")
+    public Mono<ResponseEntity<UserDTO>> patchUser(@PathVariable Long id,
+                                                   @Valid @RequestBody UpdateUserRequest updateUserRequest,
+                                                   @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return userService.patchUser(id, updateUserRequest, UserETags.expectedVersion(ifMatch))
+                .map(ResponseEntity::ok);
+    }
+
+    /**
+     * Deleta um usuário.
+     *
+     * @param id o ID do usuário
+     * @return resposta vazia
+     */
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Deletar usuário", description = "Remove um usuário do sistema")
+    public Mono<ResponseEntity<Void>> deleteUser(@PathVariable Long id) {
+        return userService.deleteUser(id).then(Mono.fromCallable(() -> ResponseEntity.noContent().build()));
+    }
+}
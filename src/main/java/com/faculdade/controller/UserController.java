@@ -1,22 +1,55 @@
 package com.faculdade.controller;
 
+import com.faculdade.dto.BulkCreateUsersResponse;
 import com.faculdade.dto.CreateUserRequest;
+import com.faculdade.dto.UpdateUserRequest;
+import com.faculdade.dto.UserCollectionVersion;
 import com.faculdade.dto.UserDTO;
+import com.faculdade.dto.UserPage;
+import com.faculdade.dto.UserVersion;
+import com.faculdade.exception.BulkRequestTooLargeException;
 import com.faculdade.service.UserService;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Controlador de usuários.
@@ -24,6 +57,7 @@ import java.util.List;
  * Todos os endpoints requerem autenticação JWT.
  */
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/users")
 @RequiredArgsConstructor
 @Tag(name = "Usuários", description = "Endpoints para gerenciamento de usuários")
@@ -31,48 +65,160 @@ import java.util.List;
 public class UserController {
 
     private final UserService userService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${api.users.bulk.max-size:1000}")
+    private int bulkMaxSize;
+
+    @Value("${api.users.bulk.max-body-size:1MB}")
+    private DataSize bulkMaxBodySize;
+
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
 
     /**
-     * Busca todos os usuários.
+     * Lista os usuários de forma paginada.
+     * Sem o parâmetro page, usa paginação keyset sobre o ID com cursor opaco;
+     * com page, usa paginação por offset. O link para a próxima página
+     * é retornado no header Link.
+     * A resposta traz ETag e Last-Modified derivados da versão da coleção;
+     * se a coleção não mudou desde a versão informada pelo cliente, responde 304 sem consultar a página.
      *
-     * @return lista de usuários
+     * @param page o número da página (modo offset)
+     * @param size o tamanho da página
+     * @param cursor o cursor da página anterior (modo keyset)
+     * @param webRequest a requisição, usada para avaliar If-None-Match e If-Modified-Since
+     * @return a lista de usuários da página, ou null se a resposta for 304
      */
     @GetMapping
-    @Operation(summary = "Listar todos os usuários", description = "Retorna uma lista de todos os usuários cadastrados")
+    @Operation(summary = "Listar usuários", description = "Retorna uma página de usuários cadastrados. " +
+            "Sem o parâmetro page, usa paginação por cursor (header X-Next-Cursor); " +
+            "o link para a próxima página é retornado no header Link")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Lista de usuários retornada com sucesso",
             content = @Content(schema = @Schema(implementation = UserDTO.class))),
+        @ApiResponse(responseCode = "304", description = "Nenhum usuário alterado desde a versão informada"),
+        @ApiResponse(responseCode = "400", description = "Cursor ou página inválidos"),
         @ApiResponse(responseCode = "401", description = "Não autenticado")
     })
-    public ResponseEntity<List<UserDTO>> getAllUsers() {
-        List<UserDTO> users = userService.getAllUsers();
-        return ResponseEntity.ok(users);
+    public ResponseEntity<List<UserDTO>> getAllUsers(
+            @Parameter(description = "Número da página, começando em 0 (paginação por offset)")
+            @RequestParam(required = false) Integer page,
+            @Parameter(description = "Tamanho da página, limitado ao máximo configurado")
+            @RequestParam(required = false) Integer size,
+            @Parameter(description = "Cursor retornado pela página anterior (paginação por cursor)")
+            @RequestParam(required = false) String cursor,
+            WebRequest webRequest) {
+        UserCollectionVersion version = userService.getUsersVersion();
+        if (webRequest.checkNotModified(UserETags.forCollection(version), version.getLastModified())) {
+            return null;
+        }
+
+        UserPage users = page != null
+                ? userService.getUsers(page, size)
+                : userService.getUsersAfter(cursor, size);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (users.hasNext()) {
+            UriComponentsBuilder next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("size", users.getSize());
+            if (users.getNextCursor() != null) {
+                next.replaceQueryParam("cursor", users.getNextCursor());
+                response.header(NEXT_CURSOR_HEADER, users.getNextCursor());
+            } else {
+                next.replaceQueryParam("page", users.getNextPage());
+            }
+            response.header(HttpHeaders.LINK, "<" + next.toUriString() + ">; rel=\"next\"");
+        }
+        return response.body(users.getContent());
+    }
+
+    /**
+     * Cadastra vários usuários de uma vez.
+     * Cada item é processado de forma independente e tem seu próprio resultado.
+     * O corpo é lido item a item, e a leitura é interrompida assim que passa do
+     * número máximo de itens ou de bytes, sem montar a lista inteira antes.
+     *
+     * @param request a requisição com a lista de novos usuários no corpo
+     * @return o resultado de cada item
+     * @throws IOException se a leitura do corpo falhar
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Cadastrar usuários em massa",
+            description = "Cria vários usuários de uma vez. Falhas em um item não desfazem os demais")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Cadastro processado; veja o resultado de cada item",
+            content = @Content(schema = @Schema(implementation = BulkCreateUsersResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Corpo da requisição inválido"),
+        @ApiResponse(responseCode = "401", description = "Não autenticado"),
+        @ApiResponse(responseCode = "413", description = "Quantidade de itens ou tamanho do corpo acima do limite"),
+        @ApiResponse(responseCode = "503", description = "Pool de hashing de senhas saturado")
+    })
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(required = true, content = @Content(
+            array = @ArraySchema(schema = @Schema(implementation = CreateUserRequest.class))))
+    public ResponseEntity<BulkCreateUsersResponse> createUsers(HttpServletRequest request) throws IOException {
+        BulkCreateUsersResponse response = userService.createUsers(readBulkRequest(request));
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Exporta todos os usuários no formato NDJSON (um JSON por linha).
+     * Os usuários são escritos na resposta à medida que são lidos do banco,
+     * sem carregar a tabela inteira em memória.
+     *
+     * @param response a resposta HTTP onde os usuários são escritos
+     * @throws IOException se houver erro ao escrever a resposta
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Exportar usuários", description = "Exporta todos os usuários em NDJSON, em streaming")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Usuários exportados com sucesso"),
+        @ApiResponse(responseCode = "401", description = "Não autenticado")
+    })
+    public void exportUsers(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        NdjsonUserWriter writer = new NdjsonUserWriter(objectMapper.writerFor(UserDTO.class), response.getOutputStream());
+        userService.exportUsers(writer);
+        writer.flush();
     }
 
     /**
      * Busca um usuário pelo ID.
+     * A resposta traz ETag, com a versão do usuário, e Last-Modified, com a última alteração;
+     * se o usuário não mudou desde a versão informada pelo cliente, responde 304 sem montar o DTO.
      *
      * @param id o ID do usuário
-     * @return os dados do usuário
+     * @param webRequest a requisição, usada para avaliar If-None-Match e If-Modified-Since
+     * @return os dados do usuário, ou null se a resposta for 304
      */
     @GetMapping("/{id}")
     @Operation(summary = "Obter usuário por ID", description = "Retorna os dados de um usuário específico")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Usuário encontrado",
             content = @Content(schema = @Schema(implementation = UserDTO.class))),
+        @ApiResponse(responseCode = "304", description = "Usuário não alterado desde a versão informada"),
         @ApiResponse(responseCode = "401", description = "Não autenticado"),
         @ApiResponse(responseCode = "404", description = "Usuário não encontrado")
     })
-    public ResponseEntity<UserDTO> getUserById(@PathVariable Long id) {
+    public ResponseEntity<UserDTO> getUserById(@PathVariable Long id, WebRequest webRequest) {
+        UserVersion version = userService.getUserVersion(id);
+        if (webRequest.checkNotModified(UserETags.forUser(version), version.getLastModified())) {
+            return null;
+        }
+
         UserDTO user = userService.getUserById(id);
         return ResponseEntity.ok(user);
     }
 
     /**
      * Atualiza um usuário existente.
+     * Com o header If-Match (a ETag obtida no GET), a atualização só é aplicada se o usuário
+     * ainda estiver nessa versão; caso contrário, responde 412 sem alterar nada.
      *
      * @param id o ID do usuário
      * @param createUserRequest dados atualizados
+     * @param ifMatch a ETag da versão que o cliente leu (opcional)
      * @return os dados atualizados do usuário
      */
     @PutMapping("/{id}")
@@ -83,11 +229,45 @@ public class UserController {
         @ApiResponse(responseCode = "400", description = "Dados de entrada inválidos"),
         @ApiResponse(responseCode = "401", description = "Não autenticado"),
         @ApiResponse(responseCode = "404", description = "Usuário não encontrado"),
-        @ApiResponse(responseCode = "409", description = "Email já cadastrado")
+        @ApiResponse(responseCode = "409", description = "Email já cadastrado ou usuário alterado concorrentemente"),
+        @ApiResponse(responseCode = "412", description = "Versão informada em If-Match não é a atual")
     })
     public ResponseEntity<UserDTO> updateUser(@PathVariable Long id, 
-                                              @Valid @RequestBody CreateUserRequest createUserRequest) {
-        UserDTO user = userService.updateUser(id, createUserRequest);
+                                              @Valid @RequestBody CreateUserRequest createUserRequest,
+                                              @Parameter(description = "ETag da versão lida do usuário")
+                                              @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        UserDTO user = userService.updateUser(id, createUserRequest, UserETags.expectedVersion(ifMatch));
+        return ResponseEntity.ok(user);
+    }
+
+    /**
+     * Atualiza parcialmente um usuário: apenas os campos informados são alterados,
+     * e o UPDATE gerado inclui só as colunas modificadas.
+     * A senha só é recalculada quando uma nova senha é enviada, então edições de perfil
+     * não pagam o custo do BCrypt. Aceita If-Match como o PUT.
+     *
+     * @param id o ID do usuário
+     * @param updateUserRequest os campos a alterar
+     * @param ifMatch a ETag da versão que o cliente leu (opcional)
+     * @return os dados atualizados do usuário
+     */
+    @PatchMapping(value = "/{id}", consumes = {MediaType.APPLICATION_JSON_VALUE, "application/merge-patch+json"})
+    @Operation(summary = "Atualizar usuário parcialmente",
+            description = "Altera apenas os campos informados; a senha só é recalculada se for enviada")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Usuário atualizado com sucesso",
+            content = @Content(schema = @Schema(implementation = UserDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Dados de entrada inválidos"),
+        @ApiResponse(responseCode = "401", description = "Não autenticado"),
+        @ApiResponse(responseCode = "404", description = "Usuário não encontrado"),
+        @ApiResponse(responseCode = "409", description = "Email já cadastrado ou usuário alterado concorrentemente"),
+        @ApiResponse(responseCode = "412", description = "Versão informada em If-Match não é a atual")
+    })
+    public ResponseEntity<UserDTO> patchUser(@PathVariable Long id,
+                                             @Valid @RequestBody UpdateUserRequest updateUserRequest,
+                                             @Parameter(description = "ETag da versão lida do usuário")
+                                             @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        UserDTO user = userService.patchUser(id, updateUserRequest, UserETags.expectedVersion(ifMatch));
         return ResponseEntity.ok(user);
     }
 
@@ -108,5 +288,113 @@ public class UserController {
         userService.deleteUser(id);
         return ResponseEntity.noContent().build();
     }
-}
 
+    /**
+     * Lê a lista do cadastro em massa token a token. Itens null são mantidos
+     * para que o serviço os reporte como inválidos na posição em que vieram.
+     */
+    private List<CreateUserRequest> readBulkRequest(HttpServletRequest request) throws IOException {
+        long maxBytes = bulkMaxBodySize.toBytes();
+        if (request.getContentLengthLong() > maxBytes) {
+            throw new BulkRequestTooLargeException(
+                    "O corpo do cadastro em massa aceita no máximo " + maxBytes + " bytes");
+        }
+
+        List<CreateUserRequest> requests = new ArrayList<>();
+        try (JsonParser parser = objectMapper.createParser(new BoundedInputStream(request.getInputStream(), maxBytes))) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new HttpMessageNotReadableException(
+                        "O corpo deve ser uma lista de usuários", new ServletServerHttpRequest(request));
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (requests.size() == bulkMaxSize) {
+                    throw new BulkRequestTooLargeException(
+                            "O cadastro em massa aceita no máximo " + bulkMaxSize + " usuários por requisição");
+                }
+                requests.add(parser.currentToken() == JsonToken.VALUE_NULL
+                        ? null
+                        : objectMapper.readValue(parser, CreateUserRequest.class));
+            }
+        } catch (JsonProcessingException e) {
+            throw new HttpMessageNotReadableException(
+                    "Corpo da requisição inválido", e, new ServletServerHttpRequest(request));
+        }
+        return requests;
+    }
+
+    /**
+     * Limita a quantidade de bytes lidos do corpo quando o Content-Length
+     * não foi informado (ou não é confiável, como em chunked).
+     */
+    private static class BoundedInputStream extends FilterInputStream {
+
+        private final long maxBytes;
+        private long read;
+
+        BoundedInputStream(InputStream in, long maxBytes) {
+            super(in);
+            this.maxBytes = maxBytes;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                count(n);
+            }
+            return n;
+        }
+
+        private void count(int n) {
+            read += n;
+            if (read > maxBytes) {
+                throw new BulkRequestTooLargeException(
+                        "O corpo do cadastro em massa aceita no máximo " + maxBytes + " bytes");
+            }
+        }
+    }
+
+    /**
+     * Escreve cada usuário como uma linha JSON, descarregando o buffer
+     * logo no primeiro usuário e depois a cada lote.
+     */
+    private static class NdjsonUserWriter implements Consumer<UserDTO> {
+
+        private static final int FLUSH_INTERVAL = 500;
+
+        private final ObjectWriter writer;
+        private final OutputStream out;
+        private long count;
+
+        NdjsonUserWriter(ObjectWriter writer, OutputStream out) {
+            this.writer = writer;
+            this.out = out;
+        }
+
+        @Override
+        public void accept(UserDTO user) {
+            try {
+                out.write(writer.writeValueAsBytes(user));
+                out.write('\n');
+                if (count++ % FLUSH_INTERVAL == 0) {
+                    out.flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void flush() throws IOException {
+            out.flush();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.faculdade.controller;
+
+import com.faculdade.dto.UserCollectionVersion;
+import com.faculdade.dto.UserVersion;
+
+/**
+ * ETags das respostas de usuários, compartilhadas pelos controladores servlet e reativo.
+ * A ETag de um usuário é forte e carrega o número de versão, para poder ser usada em If-Match.
+ * A da listagem é fraca: identifica a versão da coleção, não os bytes da página.
+ */
+final class UserETags {
+
+    /**
+     * Versão que nunca existe, usada quando If-Match não pode ser satisfeito.
+     */
+    private static final long UNMATCHABLE_VERSION = -1L;
+
+    private UserETags() {
+    }
+
+    /**
+     * @param version a versão do usuário
+     * @return a ETag do usuário
+     */
+    static String forUser(UserVersion version) {
+        return "\"" + version.getVersion() + "\"";
+    }
+
+    /**
+     * @param version a versão da coleção de usuários
+     * @return a ETag das páginas da listagem
+     */
+    static String forCollection(UserCollectionVersion version) {
+        return "W/\"" + Long.toHexString(version.getCount()) + "-" + Long.toHexString(version.getLastModified()) + "\"";
+    }
+
+    /**
+     * Extrai do header If-Match a versão que o cliente espera atualizar.
+     * If-Match usa comparação forte: ETags fracas, listas e valores que não são versões
+     * nunca correspondem à versão atual e resultam em 412.
+     *
+     * @param ifMatch o valor do header, ou null se ausente
+     * @return a versão esperada, ou null se não houver condição de versão (header ausente ou "*")
+     */
+    static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+
+        String etag = ifMatch.trim();
+        if (etag.length() > 2 && etag.startsWith("\"") && etag.endsWith("\"")) {
+            try {
+                return Long.parseLong(etag.substring(1, etag.length() - 1));
+            } catch (NumberFormatException e) {
+                return UNMATCHABLE_VERSION;
+            }
+        }
+        return UNMATCHABLE_VERSION;
+    }
+}
@@ -4,13 +4,21 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
+
+import java.util.Locale;
 
 /**
  * Entidade de domínio que representa um usuário no sistema.
  * Implementa os princípios de separação de responsabilidades e encapsulamento.
+ * Os UPDATEs são gerados com apenas as colunas alteradas (@DynamicUpdate).
  */
 @Entity
-@Table(name = "users")
+@DynamicUpdate
+@Table(name = "users", uniqueConstraints = {
+    @UniqueConstraint(name = User.EMAIL_UNIQUE_CONSTRAINT, columnNames = "email"),
+    @UniqueConstraint(name = User.NORMALIZED_EMAIL_UNIQUE_CONSTRAINT, columnNames = "normalized_email")
+}, indexes = @Index(name = "idx_users_updated_at", columnList = "updated_at"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -18,8 +26,29 @@ import lombok.*;
 @Builder
 public class User {
 
+    /**
+     * Nome da restrição de unicidade do email, usada para traduzir violações em EmailAlreadyExistsException.
+     */
+    public static final String EMAIL_UNIQUE_CONSTRAINT = "uk_users_email";
+
+    /**
+     * Nome da restrição de unicidade do email normalizado, que impede emails que diferem só na caixa.
+     */
+    public static final String NORMALIZED_EMAIL_UNIQUE_CONSTRAINT = "uk_users_normalized_email";
+
+    /**
+     * Sequência de IDs e tamanho do bloco reservado a cada ida ao banco.
+     */
+    public static final String ID_SEQUENCE = "users_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    /**
+     * Gerado por sequência com otimizador pooled: cada ida ao banco reserva um bloco de IDs,
+     * permitindo que o Hibernate agrupe os INSERTs em lotes JDBC.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @NotBlank(message = "O nome não pode estar vazio")
@@ -28,9 +57,17 @@ public class User {
 
     @Email(message = "O email deve ser válido")
     @NotBlank(message = "O email não pode estar vazio")
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String email;
 
+    /**
+     * Email sem espaços nas extremidades e em minúsculas, preenchido nos hooks do JPA.
+     * Todas as buscas por email usam esta coluna, mantendo a busca sem distinção
+     * de caixa como uma consulta pelo índice único.
+     */
+    @Column(name = "normalized_email", nullable = false)
+    private String normalizedEmail;
+
     @NotBlank(message = "A senha não pode estar vazia")
     @Column(nullable = false)
     private String password;
@@ -44,11 +81,20 @@ public class User {
     @Column(name = "updated_at")
     private Long updatedAt;
 
+    /**
+     * Versão para controle otimista de concorrência: cada UPDATE a incrementa
+     * e só é aplicado se a versão no banco ainda for a lida, sem bloquear a linha.
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     /**
      * Hook do JPA executado antes de persistir a entidade.
      */
     @PrePersist
     protected void onCreate() {
+        this.normalizedEmail = normalizeEmail(this.email);
         this.createdAt = System.currentTimeMillis();
         this.updatedAt = System.currentTimeMillis();
     }
@@ -58,7 +104,18 @@ public class User {
      */
     @PreUpdate
     protected void onUpdate() {
+        this.normalizedEmail = normalizeEmail(this.email);
         this.updatedAt = System.currentTimeMillis();
     }
+
+    /**
+     * Normaliza um email para comparação: remove espaços nas extremidades e converte para minúsculas.
+     *
+     * @param email o email (pode ser nulo)
+     * @return o email normalizado, ou nulo se o email for nulo
+     */
+    public static String normalizeEmail(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
 }
 
@@ -0,0 +1,28 @@
+package com.faculdade.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * DTO para resposta do cadastro em massa de usuários.
+ * Contém o resultado de cada item, na mesma ordem da requisição.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Resultado do cadastro em massa de usuários")
+public class BulkCreateUsersResponse {
+
+    @Schema(description = "Quantidade de usuários criados", example = "2")
+    private int created;
+
+    @Schema(description = "Quantidade de itens que falharam", example = "1")
+    private int failed;
+
+    @Schema(description = "Resultado de cada item, na ordem da requisição")
+    private List<BulkUserResult> results;
+}
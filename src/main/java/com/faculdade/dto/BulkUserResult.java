@@ -0,0 +1,41 @@
+package com.faculdade.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+/**
+ * DTO com o resultado da criação de um usuário dentro de um cadastro em massa.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Resultado da criação de um item do cadastro em massa")
+public class BulkUserResult {
+
+    /**
+     * Situação de um item do cadastro em massa.
+     */
+    public enum Status {
+        CREATED,
+        DUPLICATE,
+        INVALID,
+        FAILED
+    }
+
+    @Schema(description = "Posição do item na requisição", example = "0")
+    private int index;
+
+    @Schema(description = "Email do usuário", example = "joao@example.com")
+    private String email;
+
+    @Schema(description = "Situação do item", example = "CREATED")
+    private Status status;
+
+    @Schema(description = "ID do usuário criado", example = "1")
+    private Long id;
+
+    @Schema(description = "Motivo da falha, quando houver", example = "Email já cadastrado no sistema")
+    private String message;
+}
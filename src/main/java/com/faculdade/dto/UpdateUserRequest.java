@@ -0,0 +1,34 @@
+package com.faculdade.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+/**
+ * DTO para requisição de atualização parcial de usuário (PATCH).
+ * Campos nulos ou ausentes são mantidos; os informados seguem as mesmas regras de CreateUserRequest.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Dados para atualizar parcialmente um usuário; campos ausentes não são alterados")
+public class UpdateUserRequest {
+
+    @Schema(description = "Novo nome do usuário", example = "João Silva")
+    @Pattern(regexp = ".*\\S.*", message = "O nome não pode estar vazio")
+    @Size(min = 3, max = 100, message = "O nome deve ter entre 3 e 100 caracteres")
+    private String name;
+
+    @Schema(description = "Novo email do usuário", example = "joao@example.com")
+    @Email(message = "O email deve ser válido")
+    @Pattern(regexp = ".*\\S.*", message = "O email não pode estar vazio")
+    private String email;
+
+    @Schema(description = "Nova senha do usuário", example = "senha123")
+    @Size(min = 6, max = 100, message = "A senha deve ter entre 6 e 100 caracteres")
+    private String password;
+}
@@ -0,0 +1,19 @@
+package com.faculdade.dto;
+
+import lombok.*;
+
+/**
+ * Versão da coleção de usuários, usada nas requisições condicionais da listagem.
+ * Toda inserção ou atualização avança lastModified e toda remoção altera count,
+ * então qualquer escrita produz uma versão diferente.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserCollectionVersion {
+
+    private long count;
+    private long lastModified;
+}
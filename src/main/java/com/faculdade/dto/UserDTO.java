@@ -1,5 +1,6 @@
 package com.faculdade.dto;
 
+import com.faculdade.domain.User;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -34,5 +35,21 @@ public class UserDTO {
 
     @Schema(description = "Data de criação (timestamp)", example = "1697000000000")
     private Long createdAt;
-}
 
+    /**
+     * Converte uma entidade User para UserDTO.
+     * Não expõe dados sensíveis como senha.
+     *
+     * @param user a entidade User
+     * @return o DTO do usuário
+     */
+    public static UserDTO fromEntity(User user) {
+        return UserDTO.builder()
+                .id(user.getId())
+                .name(user.getName())
+                .email(user.getEmail())
+                .active(user.getActive())
+                .createdAt(user.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,32 @@
+package com.faculdade.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Página de usuários retornada pela listagem paginada.
+ * Contém a posição da próxima página em modo offset (nextPage)
+ * ou em modo keyset (nextCursor), conforme o modo utilizado.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserPage {
+
+    private List<UserDTO> content;
+    private int size;
+    private Integer nextPage;
+    private String nextCursor;
+
+    /**
+     * Indica se existe uma próxima página.
+     *
+     * @return true se houver mais usuários após esta página
+     */
+    public boolean hasNext() {
+        return nextPage != null || nextCursor != null;
+    }
+}
@@ -0,0 +1,19 @@
+package com.faculdade.dto;
+
+import lombok.*;
+
+/**
+ * Versão de um usuário, usada nas requisições condicionais.
+ * O número de versão (controle otimista de concorrência) identifica a ETag;
+ * o timestamp da última alteração é enviado em Last-Modified.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserVersion {
+
+    private long version;
+    private long lastModified;
+}
@@ -0,0 +1,11 @@
+package com.faculdade.exception;
+
+/**
+ * Exceção lançada quando um cadastro em massa excede o número máximo de itens permitido.
+ */
+public class BulkRequestTooLargeException extends RuntimeException {
+
+    public BulkRequestTooLargeException(String message) {
+        super(message);
+    }
+}
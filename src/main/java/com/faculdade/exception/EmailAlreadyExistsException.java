@@ -2,15 +2,17 @@ package com.faculdade.exception;
 
 /**
  * Exceção lançada quando tenta-se criar um usuário com um email já existente.
+ * Como UserNotFoundException, faz parte do fluxo normal e é sempre convertida em 409,
+ * então não captura a pilha de chamadas. Quando traduz uma violação de unicidade do banco,
+ * a causa preserva a pilha original.
  */
 public class EmailAlreadyExistsException extends RuntimeException {
 
     public EmailAlreadyExistsException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 
     public EmailAlreadyExistsException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, false, false);
     }
 }
-
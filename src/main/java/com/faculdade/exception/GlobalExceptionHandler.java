@@ -1,14 +1,21 @@
 package com.faculdade.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.context.request.WebRequest;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
@@ -19,9 +26,12 @@ import java.util.Map;
  * Segue o padrão de boas práticas para APIs REST.
  */
 @RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @Slf4j
 public class GlobalExceptionHandler {
 
+    private final RateLimitedWarning hashingSaturationWarning = new RateLimitedWarning(Duration.ofSeconds(10));
+
     /**
      * Trata exceções de validação de entrada.
      *
@@ -41,15 +51,7 @@ public class GlobalExceptionHandler {
             errors.put(fieldName, errorMessage);
         });
 
-        ErrorResponse errorResponse = ErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.BAD_REQUEST.value())
-                .message("Erro de validação")
-                .errors(errors)
-                .path(request.getDescription(false).replace("uri=", ""))
-                .build();
-
-        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+        return response(HttpStatus.BAD_REQUEST, "Erro de validação", errors, request);
     }
 
     /**
@@ -64,16 +66,9 @@ public class GlobalExceptionHandler {
             UserNotFoundException ex,
             WebRequest request) {
 
-        log.warn("Usuário não encontrado: {}", ex.getMessage());
+        log.debug("Usuário não encontrado: {}", ex.getMessage());
 
-        ErrorResponse errorResponse = ErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.NOT_FOUND.value())
-                .message(ex.getMessage())
-                .path(request.getDescription(false).replace("uri=", ""))
-                .build();
-
-        return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+        return response(HttpStatus.NOT_FOUND, ex.getMessage(), null, request);
     }
 
     /**
@@ -88,25 +83,179 @@ public class GlobalExceptionHandler {
             EmailAlreadyExistsException ex,
             WebRequest request) {
 
-        log.warn("Email já existe: {}", ex.getMessage());
+        log.debug("Email já existe: {}", ex.getMessage());
+
+        return response(HttpStatus.CONFLICT, ex.getMessage(), null, request);
+    }
+
+    /**
+     * Trata exceções de versão divergente em atualizações condicionais (If-Match).
+     *
+     * @param ex a exceção
+     * @param request a requisição web
+     * @return resposta com erro 412
+     */
+    @ExceptionHandler(UserVersionMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleUserVersionMismatchException(
+            UserVersionMismatchException ex,
+            WebRequest request) {
 
-        ErrorResponse errorResponse = ErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.CONFLICT.value())
-                .message(ex.getMessage())
-                .path(request.getDescription(false).replace("uri=", ""))
-                .build();
+        log.warn("Versão divergente: {}", ex.getMessage());
 
-        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+        return response(HttpStatus.PRECONDITION_FAILED, ex.getMessage(), null, request);
     }
 
     /**
-     * Trata exceções genéricas de argumento inválido.
+     * Trata atualizações concorrentes detectadas pelo controle otimista sem If-Match.
+     *
+     * @param ex a exceção
+     * @param request a requisição web
+     * @return resposta com erro 409
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(
+            OptimisticLockingFailureException ex,
+            WebRequest request) {
+
+        log.warn("Atualização concorrente: {}", ex.getMessage());
+
+        return response(HttpStatus.CONFLICT, "O usuário foi alterado por outra requisição", null, request);
+    }
+
+    /**
+     * Trata violações de integridade não traduzidas pela camada de serviço.
+     * Evita que conflitos de escrita concorrente resultem em erro 500.
+     *
+     * @param ex a exceção
+     * @param request a requisição web
+     * @return resposta com erro 409
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponse> handleDataIntegrityViolationException(
+            DataIntegrityViolationException ex,
+            WebRequest request) {
+
+        log.warn("Violação de integridade: {}", ex.getMostSpecificCause().getMessage());
+
+        return response(HttpStatus.CONFLICT, "Conflito com dados já existentes", null, request);
+    }
+
+    /**
+     * Trata exceções de cursor de paginação inválido.
+     *
+     * @param ex a exceção
+     * @param request a requisição web
+     * @return resposta com erro 400
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursorException(
+            InvalidCursorException ex,
+            WebRequest request) {
+
+        log.warn("Cursor inválido: {}", ex.getMessage());
+
+        return response(HttpStatus.BAD_REQUEST, ex.getMessage(), null, request);
+    }
+
+    /**
+     * Trata exceções de cadastro em massa acima do limite de itens ou de bytes.
+     *
+     * @param ex a exceção
+     * @param request a requisição web
+     * @return resposta com erro 413
+     */
+    @ExceptionHandler(BulkRequestTooLargeException.class)
+    public ResponseEntity<ErrorResponse> handleBulkRequestTooLargeException(
+            BulkRequestTooLargeException ex,
+            WebRequest request) {
+
+        log.warn("Cadastro em massa acima do limite: {}", ex.getMessage());
+
+        return response(HttpStatus.PAYLOAD_TOO_LARGE, ex.getMessage(), null, request);
+    }
+
+    /**
+     * Trata exceções de saturação do pool de hashing de senhas.
+     * O aviso no log é limitado a um a cada 10 segundos, com o total de rejeições do período.
+     *
+     * @param ex a exceção
+     * @param request a requisição web
+     * @return resposta com erro 503
+     */
+    @ExceptionHandler(PasswordHashingUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handlePasswordHashingUnavailableException(
+            PasswordHashingUnavailableException ex,
+            WebRequest request) {
+
+        long rejected = hashingSaturationWarning.record();
+        if (rejected > 0) {
+            log.warn("Pool de hashing de senhas saturado: {} requisição(ões) respondida(s) com 503 desde o último aviso",
+                    rejected);
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "1");
+
+        return new ResponseEntity<>(errorResponse(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage(), null, request),
+                headers, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    /**
+     * Trata exceções de número de página inválido.
+     *
+     * @param ex a exceção
+     * @param request a requisição web
+     * @return resposta com erro 400
+     */
+    @ExceptionHandler(InvalidPageException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidPageException(
+            InvalidPageException ex,
+            WebRequest request) {
+
+        log.warn("Página inválida: {}", ex.getMessage());
+
+        return response(HttpStatus.BAD_REQUEST, ex.getMessage(), null, request);
+    }
+
+    /**
+     * Trata exceções de credenciais inválidas no login.
      *
      * @param ex a exceção
      * @param request a requisição web
      * @return resposta com erro 401
      */
+    @ExceptionHandler(InvalidCredentialsException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCredentialsException(
+            InvalidCredentialsException ex,
+            WebRequest request) {
+
+        return response(HttpStatus.UNAUTHORIZED, ex.getMessage(), null, request);
+    }
+
+    /**
+     * Trata corpos de requisição que não puderam ser lidos (JSON malformado ou de tipo inesperado).
+     *
+     * @param ex a exceção
+     * @param request a requisição web
+     * @return resposta com erro 400
+     */
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<ErrorResponse> handleHttpMessageNotReadableException(
+            HttpMessageNotReadableException ex,
+            WebRequest request) {
+
+        log.warn("Corpo da requisição inválido: {}", ex.getMessage());
+
+        return response(HttpStatus.BAD_REQUEST, "Corpo da requisição inválido", null, request);
+    }
+
+    /**
+     * Trata exceções genéricas de argumento inválido.
+     *
+     * @param ex a exceção
+     * @param request a requisição web
+     * @return resposta com erro 400
+     */
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ErrorResponse> handleIllegalArgumentException(
             IllegalArgumentException ex,
@@ -114,14 +263,7 @@ public class GlobalExceptionHandler {
 
         log.warn("Argumento inválido: {}", ex.getMessage());
 
-        ErrorResponse errorResponse = ErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.UNAUTHORIZED.value())
-                .message(ex.getMessage())
-                .path(request.getDescription(false).replace("uri=", ""))
-                .build();
-
-        return new ResponseEntity<>(errorResponse, HttpStatus.UNAUTHORIZED);
+        return response(HttpStatus.BAD_REQUEST, ex.getMessage(), null, request);
     }
 
     /**
@@ -138,14 +280,32 @@ public class GlobalExceptionHandler {
 
         log.error("Erro não tratado: ", ex);
 
-        ErrorResponse errorResponse = ErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.INTERNAL_SERVER_ERROR.value())
-                .message("Erro interno do servidor")
-                .path(request.getDescription(false).replace("uri=", ""))
-                .build();
+        return response(HttpStatus.INTERNAL_SERVER_ERROR, "Erro interno do servidor", null, request);
+    }
 
-        return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
+    /**
+     * Monta a resposta de erro com o status informado, usada por todos os handlers.
+     */
+    private static ResponseEntity<ErrorResponse> response(HttpStatus status, String message,
+                                                          Map<String, String> errors, WebRequest request) {
+        return new ResponseEntity<>(errorResponse(status, message, errors, request), status);
     }
-}
 
+    /**
+     * Monta o corpo de erro diretamente pelo construtor, sem o builder.
+     */
+    private static ErrorResponse errorResponse(HttpStatus status, String message,
+                                               Map<String, String> errors, WebRequest request) {
+        return new ErrorResponse(LocalDateTime.now(), status.value(), message, errors, path(request));
+    }
+
+    /**
+     * Obtém o caminho da requisição diretamente do servlet, sem montar e editar a descrição "uri=..." de WebRequest.
+     */
+    private static String path(WebRequest request) {
+        if (request instanceof ServletWebRequest servletWebRequest) {
+            return servletWebRequest.getRequest().getRequestURI();
+        }
+        return request.getDescription(false).replace("uri=", "");
+    }
+}
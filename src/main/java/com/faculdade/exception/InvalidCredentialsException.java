@@ -0,0 +1,11 @@
+package com.faculdade.exception;
+
+/**
+ * Exceção lançada quando o email ou a senha informados no login não conferem.
+ */
+public class InvalidCredentialsException extends RuntimeException {
+
+    public InvalidCredentialsException(String message) {
+        super(message);
+    }
+}
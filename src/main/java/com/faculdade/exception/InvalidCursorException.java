@@ -0,0 +1,15 @@
+package com.faculdade.exception;
+
+/**
+ * Exceção lançada quando o cursor de paginação informado não é válido.
+ */
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+
+    public InvalidCursorException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
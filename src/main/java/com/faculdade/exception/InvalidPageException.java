@@ -0,0 +1,11 @@
+package com.faculdade.exception;
+
+/**
+ * Exceção lançada quando o número de página informado na paginação por offset não é válido.
+ */
+public class InvalidPageException extends RuntimeException {
+
+    public InvalidPageException(String message) {
+        super(message);
+    }
+}
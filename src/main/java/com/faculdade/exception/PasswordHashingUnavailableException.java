@@ -0,0 +1,16 @@
+package com.faculdade.exception;
+
+/**
+ * Exceção lançada quando o pool de hashing de senhas está saturado.
+ * Permite rejeitar rapidamente a requisição em vez de enfileirá-la sem limite.
+ */
+public class PasswordHashingUnavailableException extends RuntimeException {
+
+    public PasswordHashingUnavailableException(String message) {
+        super(message);
+    }
+
+    public PasswordHashingUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,37 @@
+package com.faculdade.exception;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limita um aviso recorrente a no máximo um registro por intervalo.
+ * As ocorrências entre dois registros são contadas e informadas no registro seguinte,
+ * para que picos não inundem o log nem fiquem invisíveis.
+ */
+class RateLimitedWarning {
+
+    private final long intervalNanos;
+    private final AtomicLong occurrences = new AtomicLong();
+    private final AtomicLong nextWarningAt;
+
+    RateLimitedWarning(Duration interval) {
+        this.intervalNanos = interval.toNanos();
+        this.nextWarningAt = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * Registra uma ocorrência e indica se o aviso deve ser emitido agora.
+     *
+     * @return o número de ocorrências desde o último aviso, ou 0 se o aviso deve ser suprimido
+     */
+    long record() {
+        occurrences.incrementAndGet();
+
+        long now = System.nanoTime();
+        long next = nextWarningAt.get();
+        if (now - next >= 0 && nextWarningAt.compareAndSet(next, now + intervalNanos)) {
+            return occurrences.getAndSet(0);
+        }
+        return 0;
+    }
+}
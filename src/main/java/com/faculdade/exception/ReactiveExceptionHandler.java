@@ -0,0 +1,253 @@
+package com.faculdade.exception;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Tratamento global de exceções da variante reativa.
+ * Produz as mesmas respostas de erro de GlobalExceptionHandler.
+ */
+@RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@Slf4j
+public class ReactiveExceptionHandler {
+
+    private final RateLimitedWarning hashingSaturationWarning = new RateLimitedWarning(Duration.ofSeconds(10));
+
+    /**
+     * Trata exceções de validação de entrada.
+     *
+     * @param ex a exceção de validação
+     * @param exchange a troca HTTP
+     * @return resposta com erros de validação
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorResponse> handleValidationExceptions(WebExchangeBindException ex,
+                                                                    ServerWebExchange exchange) {
+        Map<String, String> errors = new HashMap<>();
+        ex.getBindingResult().getAllErrors().forEach((error) -> {
+            String fieldName = ((FieldError) error).getField();
+            errors.put(fieldName, error.getDefaultMessage());
+        });
+
+        return response(HttpStatus.BAD_REQUEST, "Erro de validação", errors, exchange);
+    }
+
+    /**
+     * Trata exceções de usuário não encontrado.
+     *
+     * @param ex a exceção
+     * @param exchange a troca HTTP
+     * @return resposta com erro 404
+     */
+    @ExceptionHandler(UserNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleUserNotFoundException(UserNotFoundException ex,
+                                                                     ServerWebExchange exchange) {
+        log.debug("Usuário não encontrado: {}", ex.getMessage());
+        return response(HttpStatus.NOT_FOUND, ex.getMessage(), null, exchange);
+    }
+
+    /**
+     * Trata exceções de email já existente.
+     *
+     * @param ex a exceção
+     * @param exchange a troca HTTP
+     * @return resposta com erro 409
+     */
+    @ExceptionHandler(EmailAlreadyExistsException.class)
+    public ResponseEntity<ErrorResponse> handleEmailAlreadyExistsException(EmailAlreadyExistsException ex,
+                                                                           ServerWebExchange exchange) {
+        log.debug("Email já existe: {}", ex.getMessage());
+        return response(HttpStatus.CONFLICT, ex.getMessage(), null, exchange);
+    }
+
+    /**
+     * Trata exceções de versão divergente em atualizações condicionais (If-Match).
+     *
+     * @param ex a exceção
+     * @param exchange a troca HTTP
+     * @return resposta com erro 412
+     */
+    @ExceptionHandler(UserVersionMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleUserVersionMismatchException(UserVersionMismatchException ex,
+                                                                            ServerWebExchange exchange) {
+        log.warn("Versão divergente: {}", ex.getMessage());
+        return response(HttpStatus.PRECONDITION_FAILED, ex.getMessage(), null, exchange);
+    }
+
+    /**
+     * Trata atualizações concorrentes detectadas pelo controle otimista sem If-Match.
+     *
+     * @param ex a exceção
+     * @param exchange a troca HTTP
+     * @return resposta com erro 409
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex,
+                                                                                 ServerWebExchange exchange) {
+        log.warn("Atualização concorrente: {}", ex.getMessage());
+        return response(HttpStatus.CONFLICT, "O usuário foi alterado por outra requisição", null, exchange);
+    }
+
+    /**
+     * Trata violações de integridade não traduzidas pela camada de serviço.
+     *
+     * @param ex a exceção
+     * @param exchange a troca HTTP
+     * @return resposta com erro 409
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponse> handleDataIntegrityViolationException(DataIntegrityViolationException ex,
+                                                                               ServerWebExchange exchange) {
+        log.warn("Violação de integridade: {}", ex.getMostSpecificCause().getMessage());
+        return response(HttpStatus.CONFLICT, "Conflito com dados já existentes", null, exchange);
+    }
+
+    /**
+     * Trata exceções de cursor de paginação inválido.
+     *
+     * @param ex a exceção
+     * @param exchange a troca HTTP
+     * @return resposta com erro 400
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursorException(InvalidCursorException ex,
+                                                                      ServerWebExchange exchange) {
+        log.warn("Cursor inválido: {}", ex.getMessage());
+        return response(HttpStatus.BAD_REQUEST, ex.getMessage(), null, exchange);
+    }
+
+    /**
+     * Trata exceções de saturação do pool de hashing de senhas.
+     * O aviso no log é limitado a um a cada 10 segundos, com o total de rejeições do período.
+     *
+     * @param ex a exceção
+     * @param exchange a troca HTTP
+     * @return resposta com erro 503
+     */
+    @ExceptionHandler(PasswordHashingUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handlePasswordHashingUnavailableException(PasswordHashingUnavailableException ex,
+                                                                                   ServerWebExchange exchange) {
+        long rejected = hashingSaturationWarning.record();
+        if (rejected > 0) {
+            log.warn("Pool de hashing de senhas saturado: {} requisição(ões) respondida(s) com 503 desde o último aviso",
+                    rejected);
+        }
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage(), null, exchange));
+    }
+
+    /**
+     * Trata exceções de cadastro em massa acima do limite de itens ou de bytes.
+     *
+     * @param ex a exceção
+     * @param exchange a troca HTTP
+     * @return resposta com erro 413
+     */
+    @ExceptionHandler(BulkRequestTooLargeException.class)
+    public ResponseEntity<ErrorResponse> handleBulkRequestTooLargeException(BulkRequestTooLargeException ex,
+                                                                            ServerWebExchange exchange) {
+        log.warn("Cadastro em massa acima do limite: {}", ex.getMessage());
+        return response(HttpStatus.PAYLOAD_TOO_LARGE, ex.getMessage(), null, exchange);
+    }
+
+    /**
+     * Trata exceções de número de página inválido.
+     *
+     * @param ex a exceção
+     * @param exchange a troca HTTP
+     * @return resposta com erro 400
+     */
+    @ExceptionHandler(InvalidPageException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidPageException(InvalidPageException ex,
+                                                                    ServerWebExchange exchange) {
+        log.warn("Página inválida: {}", ex.getMessage());
+        return response(HttpStatus.BAD_REQUEST, ex.getMessage(), null, exchange);
+    }
+
+    /**
+     * Trata exceções de credenciais inválidas no login.
+     *
+     * @param ex a exceção
+     * @param exchange a troca HTTP
+     * @return resposta com erro 401
+     */
+    @ExceptionHandler(InvalidCredentialsException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCredentialsException(InvalidCredentialsException ex,
+                                                                           ServerWebExchange exchange) {
+        return response(HttpStatus.UNAUTHORIZED, ex.getMessage(), null, exchange);
+    }
+
+    /**
+     * Trata exceções genéricas de argumento inválido.
+     *
+     * @param ex a exceção
+     * @param exchange a troca HTTP
+     * @return resposta com erro 400
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponse> handleIllegalArgumentException(IllegalArgumentException ex,
+                                                                        ServerWebExchange exchange) {
+        log.warn("Argumento inválido: {}", ex.getMessage());
+        return response(HttpStatus.BAD_REQUEST, ex.getMessage(), null, exchange);
+    }
+
+    /**
+     * Preserva o status de erros do próprio WebFlux (corpo ilegível, rota inexistente etc.).
+     *
+     * @param ex a exceção
+     * @param exchange a troca HTTP
+     * @return resposta com o status da exceção
+     */
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<ErrorResponse> handleResponseStatusException(ResponseStatusException ex,
+                                                                       ServerWebExchange exchange) {
+        return response(ex.getStatusCode(), ex.getReason(), null, exchange);
+    }
+
+    /**
+     * Trata exceções genéricas não capturadas.
+     *
+     * @param ex a exceção
+     * @param exchange a troca HTTP
+     * @return resposta com erro 500
+     */
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> handleGlobalException(Exception ex, ServerWebExchange exchange) {
+        log.error("Erro não tratado: ", ex);
+        return response(HttpStatus.INTERNAL_SERVER_ERROR, "Erro interno do servidor", null, exchange);
+    }
+
+    /**
+     * Monta a resposta de erro com o status informado, usada por todos os handlers.
+     */
+    private static ResponseEntity<ErrorResponse> response(HttpStatusCode status, String message,
+                                                          Map<String, String> errors, ServerWebExchange exchange) {
+        return ResponseEntity.status(status).body(errorResponse(status, message, errors, exchange));
+    }
+
+    private static ErrorResponse errorResponse(HttpStatusCode status, String message,
+                                               Map<String, String> errors, ServerWebExchange exchange) {
+        return new ErrorResponse(LocalDateTime.now(), status.value(), message, errors,
+                exchange.getRequest().getPath().value());
+    }
+}
@@ -3,15 +3,17 @@ package com.faculdade.exception;
 /**
  * Exceção lançada quando um usuário não é encontrado no banco de dados.
  * Segue o padrão de exceções customizadas para melhor tratamento de erros.
+ * Faz parte do fluxo normal (consultas a IDs inexistentes) e é sempre convertida em 404,
+ * então não captura a pilha de chamadas nem aceita exceções suprimidas: criá-la custa
+ * o mesmo que um objeto comum, sem percorrer os frames da cadeia de filtros.
  */
 public class UserNotFoundException extends RuntimeException {
 
     public UserNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 
     public UserNotFoundException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, false, false);
     }
 }
-
@@ -0,0 +1,16 @@
+package com.faculdade.exception;
+
+/**
+ * Exceção lançada quando a versão informada em If-Match não é a versão atual do usuário,
+ * isto é, o usuário foi alterado desde que o cliente o leu.
+ */
+public class UserVersionMismatchException extends RuntimeException {
+
+    public UserVersionMismatchException(String message) {
+        super(message);
+    }
+
+    public UserVersionMismatchException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,70 @@
+package com.faculdade.filter;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Log de acesso amostrado, escrito no logger com.faculdade.access.
+ * Substitui os logs por requisição dos serviços: registra apenas uma fração das requisições,
+ * além de todas as respostas 5xx e das requisições mais lentas que o limite configurado.
+ * Cada entrada traz método, caminho, status e duração como campos estruturados, sem dados do usuário.
+ */
+@Component
+@Slf4j(topic = "com.faculdade.access")
+public class AccessLog {
+
+    private final boolean enabled;
+    private final double sampleRate;
+    private final long slowThresholdNanos;
+
+    public AccessLog(@Value("${logging.access.enabled:true}") boolean enabled,
+                     @Value("${logging.access.sample-rate:0.01}") double sampleRate,
+                     @Value("${logging.access.slow-threshold-ms:500}") long slowThresholdMillis) {
+        this.enabled = enabled;
+        this.sampleRate = sampleRate;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis);
+    }
+
+    /**
+     * Registra uma requisição concluída, se ela for selecionada pela amostragem.
+     *
+     * @param method o método HTTP
+     * @param path o caminho da requisição, sem a query string
+     * @param status o status da resposta
+     * @param durationNanos a duração da requisição em nanossegundos
+     */
+    public void record(String method, String path, int status, long durationNanos) {
+        if (!shouldRecord(status, durationNanos)) {
+            return;
+        }
+
+        log.atInfo()
+                .addKeyValue("method", method)
+                .addKeyValue("path", path)
+                .addKeyValue("status", status)
+                .addKeyValue("durationMs", TimeUnit.NANOSECONDS.toMillis(durationNanos))
+                .log("Requisição HTTP");
+    }
+
+    /**
+     * Decide se a requisição deve ser registrada.
+     * Erros do servidor e requisições lentas são sempre registrados; as demais, com a probabilidade configurada.
+     *
+     * @param status o status da resposta
+     * @param durationNanos a duração da requisição em nanossegundos
+     * @return true se a requisição deve ser registrada
+     */
+    boolean shouldRecord(int status, long durationNanos) {
+        if (!enabled || !log.isInfoEnabled()) {
+            return false;
+        }
+        if (status >= 500 || durationNanos >= slowThresholdNanos) {
+            return true;
+        }
+        return sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+}
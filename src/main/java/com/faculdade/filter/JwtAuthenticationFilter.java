@@ -1,18 +1,22 @@
 package com.faculdade.filter;
 
+import com.faculdade.security.JwtPrincipal;
 import com.faculdade.security.JwtTokenProvider;
+import com.faculdade.security.VerifiedTokenCache;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 /**
  * Filtro de autenticação JWT.
@@ -20,15 +24,25 @@ import java.io.IOException;
  * Implementa autenticação stateless conforme requisitos do professor.
  */
 @Component
-@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final JwtRejectionMetrics rejectionMetrics;
 
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
 
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider,
+                                   VerifiedTokenCache verifiedTokenCache,
+                                   MeterRegistry meterRegistry) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.rejectionMetrics = new JwtRejectionMetrics(meterRegistry);
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, 
                                     HttpServletResponse response, 
@@ -36,27 +50,57 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String token = extractTokenFromRequest(request);
 
-            if (token != null && jwtTokenProvider.validateToken(token)) {
-                String email = jwtTokenProvider.getEmailFromToken(token);
-                Long userId = jwtTokenProvider.getUserIdFromToken(token);
-
-                log.debug("Token JWT validado para usuário: {}", email);
-
-                // Cria um token de autenticação
-                UsernamePasswordAuthenticationToken authentication = 
-                    new UsernamePasswordAuthenticationToken(email, null, null);
-                authentication.setDetails(userId);
-
-                // Define a autenticação no contexto de segurança
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+            if (token != null) {
+                Optional<JwtPrincipal> principal = resolvePrincipal(token);
+                if (principal.isPresent()) {
+                    authenticate(principal.get());
+                } else {
+                    rejectionMetrics.invalidToken();
+                }
             }
         } catch (Exception e) {
+            rejectionMetrics.processingError();
             log.warn("Erro ao processar token JWT: {}", e.getMessage());
         }
 
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * Obtém os dados do token a partir do cache ou, em caso de falha,
+     * verificando a assinatura e armazenando o resultado no cache.
+     *
+     * @param token o token JWT
+     * @return Optional contendo os dados do usuário se o token for válido
+     */
+    private Optional<JwtPrincipal> resolvePrincipal(String token) {
+        Optional<JwtPrincipal> cached = verifiedTokenCache.get(token);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        Optional<JwtPrincipal> verified = jwtTokenProvider.verifyToken(token);
+        verified.ifPresent(principal -> verifiedTokenCache.put(token, principal));
+        return verified;
+    }
+
+    /**
+     * Define a autenticação no contexto de segurança a partir do token já validado.
+     *
+     * @param principal os dados extraídos do token JWT
+     */
+    private void authenticate(JwtPrincipal principal) {
+        log.atDebug().addKeyValue("userId", principal.getUserId()).log("Token JWT validado");
+
+        // Cria um token de autenticação
+        UsernamePasswordAuthenticationToken authentication =
+            new UsernamePasswordAuthenticationToken(principal.getEmail(), null, null);
+        authentication.setDetails(principal.getUserId());
+
+        // Define a autenticação no contexto de segurança
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
     /**
      * Extrai o token JWT do header Authorization da requisição.
      *
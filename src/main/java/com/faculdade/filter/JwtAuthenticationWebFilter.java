@@ -0,0 +1,113 @@
+package com.faculdade.filter;
+
+import com.faculdade.security.JwtPrincipal;
+import com.faculdade.security.JwtTokenProvider;
+import com.faculdade.security.VerifiedTokenCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+/**
+ * Filtro de autenticação JWT da variante reativa.
+ * Equivalente a JwtAuthenticationFilter: valida o token do header Authorization
+ * e, se válido, propaga a autenticação pelo contexto do Reactor.
+ * Registrado na cadeia de segurança por ReactiveSecurityConfig, e não como bean,
+ * para não ser aplicado também fora dela.
+ */
+@Slf4j
+public class JwtAuthenticationWebFilter implements WebFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final JwtRejectionMetrics rejectionMetrics;
+
+    public JwtAuthenticationWebFilter(JwtTokenProvider jwtTokenProvider,
+                                      VerifiedTokenCache verifiedTokenCache,
+                                      MeterRegistry meterRegistry) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.rejectionMetrics = new JwtRejectionMetrics(meterRegistry);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String token = extractToken(exchange);
+        if (token == null) {
+            return chain.filter(exchange);
+        }
+
+        Optional<JwtPrincipal> principal;
+        try {
+            principal = resolvePrincipal(token);
+            if (principal.isEmpty()) {
+                rejectionMetrics.invalidToken();
+            }
+        } catch (Exception e) {
+            rejectionMetrics.processingError();
+            log.warn("Erro ao processar token JWT: {}", e.getMessage());
+            principal = Optional.empty();
+        }
+
+        return principal
+                .map(p -> chain.filter(exchange)
+                        .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication(p))))
+                .orElseGet(() -> chain.filter(exchange));
+    }
+
+    /**
+     * Obtém os dados do token a partir do cache ou, em caso de falha,
+     * verificando a assinatura e armazenando o resultado no cache.
+     *
+     * @param token o token JWT
+     * @return Optional contendo os dados do usuário se o token for válido
+     */
+    private Optional<JwtPrincipal> resolvePrincipal(String token) {
+        Optional<JwtPrincipal> cached = verifiedTokenCache.get(token);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        Optional<JwtPrincipal> verified = jwtTokenProvider.verifyToken(token);
+        verified.ifPresent(principal -> verifiedTokenCache.put(token, principal));
+        return verified;
+    }
+
+    /**
+     * Cria a autenticação a partir do token já validado.
+     *
+     * @param principal os dados extraídos do token JWT
+     * @return a autenticação do usuário
+     */
+    private static UsernamePasswordAuthenticationToken authentication(JwtPrincipal principal) {
+        UsernamePasswordAuthenticationToken authentication =
+            new UsernamePasswordAuthenticationToken(principal.getEmail(), null, null);
+        authentication.setDetails(principal.getUserId());
+        return authentication;
+    }
+
+    /**
+     * Extrai o token JWT do header Authorization da requisição.
+     *
+     * @param exchange a troca HTTP
+     * @return o token JWT ou null se não encontrado
+     */
+    private static String extractToken(ServerWebExchange exchange) {
+        String authHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+
+        if (authHeader != null && authHeader.startsWith(BEARER_PREFIX)) {
+            return authHeader.substring(BEARER_PREFIX.length());
+        }
+
+        return null;
+    }
+}
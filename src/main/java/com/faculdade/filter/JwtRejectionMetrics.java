@@ -0,0 +1,33 @@
+package com.faculdade.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Contadores de tokens JWT rejeitados pelos filtros de autenticação (jwt.filter.rejections).
+ * A tag reason separa tokens inválidos ou expirados (invalid) de falhas no processamento (error).
+ */
+class JwtRejectionMetrics {
+
+    private final Counter invalidTokens;
+    private final Counter failedTokens;
+
+    JwtRejectionMetrics(MeterRegistry meterRegistry) {
+        this.invalidTokens = Counter.builder("jwt.filter.rejections")
+                .description("Tokens JWT rejeitados pelo filtro de autenticação")
+                .tag("reason", "invalid")
+                .register(meterRegistry);
+        this.failedTokens = Counter.builder("jwt.filter.rejections")
+                .description("Tokens JWT rejeitados pelo filtro de autenticação")
+                .tag("reason", "error")
+                .register(meterRegistry);
+    }
+
+    void invalidToken() {
+        invalidTokens.increment();
+    }
+
+    void processingError() {
+        failedTokens.increment();
+    }
+}
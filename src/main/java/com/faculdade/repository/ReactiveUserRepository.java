@@ -0,0 +1,323 @@
+package com.faculdade.repository;
+
+import com.faculdade.domain.User;
+import com.faculdade.dto.UserCollectionVersion;
+import com.faculdade.dto.UserDTO;
+import com.faculdade.dto.UserVersion;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Repositório reativo de usuários, usado pela variante WebFlux.
+ * Acessa a tabela mapeada pela entidade User via R2DBC, sem bloquear threads.
+ * Como os hooks do JPA não são executados aqui, o email normalizado, as datas e a versão
+ * são mantidos pelo próprio repositório nas escritas.
+ */
+@Repository
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveUserRepository {
+
+    private static final String USER_DTO_SELECT = "SELECT id, name, email, active, created_at FROM users";
+    private static final String USER_SELECT =
+            "SELECT id, name, email, normalized_email, password, active, created_at, updated_at, version FROM users";
+
+    private final DatabaseClient databaseClient;
+    private final AtomicReference<IdBlock> idBlock = new AtomicReference<>(IdBlock.EMPTY);
+
+    /**
+     * Busca a projeção de um usuário pelo ID.
+     *
+     * @param id o ID do usuário
+     * @return Mono com o DTO do usuário, vazio se não encontrado
+     */
+    public Mono<UserDTO> findDTOById(Long id) {
+        return databaseClient.sql(USER_DTO_SELECT + " WHERE id = :id")
+                .bind("id", id)
+                .map(ReactiveUserRepository::toDTO)
+                .one();
+    }
+
+    /**
+     * Busca um usuário pelo ID.
+     *
+     * @param id o ID do usuário
+     * @return Mono com o usuário, vazio se não encontrado
+     */
+    public Mono<User> findById(Long id) {
+        return databaseClient.sql(USER_SELECT + " WHERE id = :id")
+                .bind("id", id)
+                .map(ReactiveUserRepository::toUser)
+                .one();
+    }
+
+    /**
+     * Busca a versão e o instante da última alteração de um usuário, sem carregar seus dados.
+     *
+     * @param id o ID do usuário
+     * @return Mono com a versão do usuário, vazio se não encontrado
+     */
+    public Mono<UserVersion> findVersionById(Long id) {
+        return databaseClient.sql("SELECT version, COALESCE(updated_at, created_at) FROM users WHERE id = :id")
+                .bind("id", id)
+                .map(row -> new UserVersion(row.get(0, Long.class), row.get(1, Long.class)))
+                .one();
+    }
+
+    /**
+     * Calcula a versão da coleção de usuários: o total e a última alteração.
+     *
+     * @return Mono com a versão atual da coleção
+     */
+    public Mono<UserCollectionVersion> findCollectionVersion() {
+        return databaseClient.sql("SELECT COUNT(*), COALESCE(MAX(updated_at), 0) FROM users")
+                .map(row -> new UserCollectionVersion(row.get(0, Long.class), row.get(1, Long.class)))
+                .one();
+    }
+
+    /**
+     * Busca um usuário pelo email normalizado (ver User.normalizeEmail).
+     *
+     * @param normalizedEmail o email normalizado do usuário
+     * @return Mono com o usuário, vazio se não encontrado
+     */
+    public Mono<User> findByNormalizedEmail(String normalizedEmail) {
+        return databaseClient.sql(USER_SELECT + " WHERE normalized_email = :normalizedEmail")
+                .bind("normalizedEmail", normalizedEmail)
+                .map(ReactiveUserRepository::toUser)
+                .one();
+    }
+
+    /**
+     * Filtra, entre os emails normalizados informados, os que já estão cadastrados.
+     *
+     * @param normalizedEmails os emails normalizados a verificar
+     * @return os emails já cadastrados
+     */
+    public Flux<String> findExistingNormalizedEmails(Collection<String> normalizedEmails) {
+        return databaseClient.sql("SELECT normalized_email FROM users WHERE normalized_email IN (:normalizedEmails)")
+                .bind("normalizedEmails", normalizedEmails)
+                .map(row -> row.get(0, String.class))
+                .all();
+    }
+
+    /**
+     * Busca uma página de usuários por offset, ordenados por ID.
+     *
+     * @param offset o número de usuários a pular
+     * @param limit o número máximo de usuários
+     * @return os DTOs da página
+     */
+    public Flux<UserDTO> findDTOs(long offset, int limit) {
+        return databaseClient.sql(USER_DTO_SELECT + " ORDER BY id LIMIT :limit OFFSET :offset")
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map(ReactiveUserRepository::toDTO)
+                .all();
+    }
+
+    /**
+     * Busca os próximos usuários após um ID (paginação keyset).
+     *
+     * @param id o último ID da página anterior
+     * @param limit o número máximo de usuários
+     * @return os DTOs com ID maior que o informado, ordenados por ID
+     */
+    public Flux<UserDTO> findDTOsByIdGreaterThan(long id, int limit) {
+        return databaseClient.sql(USER_DTO_SELECT + " WHERE id > :id ORDER BY id LIMIT :limit")
+                .bind("id", id)
+                .bind("limit", limit)
+                .map(ReactiveUserRepository::toDTO)
+                .all();
+    }
+
+    /**
+     * Percorre todos os usuários ordenados por ID, com contrapressão do consumidor.
+     *
+     * @return os DTOs de todos os usuários
+     */
+    public Flux<UserDTO> streamAllDTOs() {
+        return databaseClient.sql(USER_DTO_SELECT + " ORDER BY id")
+                .map(ReactiveUserRepository::toDTO)
+                .all();
+    }
+
+    /**
+     * Insere um novo usuário, atribuindo o ID da sequência e preenchendo o email normalizado e as datas.
+     *
+     * @param user o usuário a ser inserido
+     * @return Mono com o usuário inserido
+     */
+    public Mono<User> insert(User user) {
+        return nextId().flatMap(id -> {
+            long now = System.currentTimeMillis();
+            user.setId(id);
+            user.setNormalizedEmail(User.normalizeEmail(user.getEmail()));
+            user.setCreatedAt(now);
+            user.setUpdatedAt(now);
+            user.setVersion(0L);
+
+            return databaseClient.sql("INSERT INTO users (id, name, email, normalized_email, password, active, created_at, updated_at, version) "
+                            + "VALUES (:id, :name, :email, :normalizedEmail, :password, :active, :createdAt, :updatedAt, :version)")
+                    .bind("id", id)
+                    .bind("name", user.getName())
+                    .bind("email", user.getEmail())
+                    .bind("normalizedEmail", user.getNormalizedEmail())
+                    .bind("password", user.getPassword())
+                    .bind("active", user.getActive())
+                    .bind("createdAt", user.getCreatedAt())
+                    .bind("updatedAt", user.getUpdatedAt())
+                    .bind("version", user.getVersion())
+                    .fetch()
+                    .rowsUpdated()
+                    .thenReturn(user);
+        });
+    }
+
+    /**
+     * Atualiza nome, email e senha de um usuário existente, se ele ainda estiver na versão lida,
+     * como no controle otimista do JPA.
+     *
+     * @param user o usuário com os dados atualizados e a versão lida
+     * @return Mono com o usuário atualizado, ou erro OptimisticLockingFailureException
+     *         se o usuário foi alterado ou removido desde a leitura
+     */
+    public Mono<User> update(User user) {
+        long expectedVersion = user.getVersion();
+        user.setNormalizedEmail(User.normalizeEmail(user.getEmail()));
+        user.setUpdatedAt(System.currentTimeMillis());
+
+        return databaseClient.sql("UPDATE users SET name = :name, email = :email, normalized_email = :normalizedEmail, "
+                        + "password = :password, updated_at = :updatedAt, version = version + 1 "
+                        + "WHERE id = :id AND version = :version")
+                .bind("id", user.getId())
+                .bind("name", user.getName())
+                .bind("email", user.getEmail())
+                .bind("normalizedEmail", user.getNormalizedEmail())
+                .bind("password", user.getPassword())
+                .bind("updatedAt", user.getUpdatedAt())
+                .bind("version", expectedVersion)
+                .fetch()
+                .rowsUpdated()
+                .flatMap(updated -> {
+                    if (updated == 0) {
+                        return Mono.error(new OptimisticLockingFailureException(
+                                "Usuário " + user.getId() + " alterado desde a versão " + expectedVersion));
+                    }
+                    user.setVersion(expectedVersion + 1);
+                    return Mono.just(user);
+                });
+    }
+
+    /**
+     * Atualiza apenas o hash da senha de um usuário.
+     *
+     * @param id o ID do usuário
+     * @param encodedPassword o novo hash da senha
+     * @return Mono com o número de linhas atualizadas
+     */
+    public Mono<Long> updatePassword(Long id, String encodedPassword) {
+        return databaseClient.sql("UPDATE users SET password = :password, updated_at = :updatedAt, version = version + 1 "
+                        + "WHERE id = :id")
+                .bind("id", id)
+                .bind("password", encodedPassword)
+                .bind("updatedAt", System.currentTimeMillis())
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * Remove um usuário pelo ID.
+     *
+     * @param id o ID do usuário
+     * @return Mono com o número de linhas removidas
+     */
+    public Mono<Long> deleteById(Long id) {
+        return databaseClient.sql("DELETE FROM users WHERE id = :id")
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * Obtém o próximo ID da sequência users_seq. Assim como o otimizador pooled do Hibernate,
+     * cada valor lido da sequência reserva o bloco de IDs que termina nele.
+     *
+     * @return Mono com o próximo ID
+     */
+    private Mono<Long> nextId() {
+        return Mono.defer(() -> {
+            long id = idBlock.get().next();
+            if (id > 0) {
+                return Mono.just(id);
+            }
+
+            return databaseClient.sql("SELECT NEXT VALUE FOR " + User.ID_SEQUENCE)
+                    .map(row -> row.get(0, Long.class))
+                    .one()
+                    .map(hi -> {
+                        IdBlock block = new IdBlock(Math.max(hi - User.ID_ALLOCATION_SIZE + 1, 1), hi);
+                        long first = block.next();
+                        idBlock.set(block);
+                        return first;
+                    });
+        });
+    }
+
+    private static UserDTO toDTO(Readable row) {
+        return new UserDTO(
+                row.get("id", Long.class),
+                row.get("name", String.class),
+                row.get("email", String.class),
+                row.get("active", Boolean.class),
+                row.get("created_at", Long.class));
+    }
+
+    private static User toUser(Readable row) {
+        return User.builder()
+                .id(row.get("id", Long.class))
+                .name(row.get("name", String.class))
+                .email(row.get("email", String.class))
+                .normalizedEmail(row.get("normalized_email", String.class))
+                .password(row.get("password", String.class))
+                .active(row.get("active", Boolean.class))
+                .createdAt(row.get("created_at", Long.class))
+                .updatedAt(row.get("updated_at", Long.class))
+                .version(row.get("version", Long.class))
+                .build();
+    }
+
+    /**
+     * Bloco de IDs reservado na sequência, consumido sem bloqueio por requisições concorrentes.
+     */
+    private static final class IdBlock {
+
+        static final IdBlock EMPTY = new IdBlock(1, 0);
+
+        private final AtomicLong next;
+        private final long last;
+
+        IdBlock(long first, long last) {
+            this.next = new AtomicLong(first);
+            this.last = last;
+        }
+
+        /**
+         * @return o próximo ID do bloco, ou -1 se o bloco estiver esgotado
+         */
+        long next() {
+            long id = next.getAndIncrement();
+            return id <= last ? id : -1;
+        }
+    }
+}
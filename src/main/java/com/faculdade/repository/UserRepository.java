@@ -1,33 +1,141 @@
 package com.faculdade.repository;
 
+import com.faculdade.config.CacheConfig;
 import com.faculdade.domain.User;
+import com.faculdade.dto.UserCollectionVersion;
+import com.faculdade.dto.UserDTO;
+import com.faculdade.dto.UserVersion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Interface de repositório para a entidade User.
  * Estende JpaRepository para fornecer operações CRUD básicas.
  * Segue o padrão Repository para separação de responsabilidades.
+ * As consultas de leitura retornam projeções UserDTO, que selecionam apenas
+ * as colunas expostas pela API e não passam pelo contexto de persistência.
+ * As buscas por ID passam pelo cache local (ver CacheConfig). A busca por email, usada na
+ * autenticação, não é cacheada: sempre lê o hash de senha e a versão atuais do banco.
  */
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
 
     /**
-     * Busca um usuário pelo email.
+     * Projeção JPQL com as colunas expostas em UserDTO.
+     */
+    String USER_DTO_SELECT =
+            "select new com.faculdade.dto.UserDTO(u.id, u.name, u.email, u.active, u.createdAt) from User u";
+
+    /**
+     * Busca um usuário pelo email normalizado (ver User.normalizeEmail).
      *
-     * @param email o email do usuário
+     * @param normalizedEmail o email normalizado do usuário
      * @return Optional contendo o usuário se encontrado
      */
-    Optional<User> findByEmail(String email);
+    Optional<User> findByNormalizedEmail(String normalizedEmail);
 
     /**
-     * Verifica se um usuário com o email especificado existe.
+     * Percorre os emails normalizados de todos os usuários, usado para construir o EmailExistenceFilter.
+     * Deve ser consumido dentro de uma transação e fechado ao final.
      *
-     * @param email o email a ser verificado
-     * @return true se o email existe, false caso contrário
+     * @return stream de emails normalizados lidos do cursor JDBC em lotes
      */
-    boolean existsByEmail(String email);
-}
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select u.normalizedEmail from User u")
+    Stream<String> streamAllNormalizedEmails();
+
+    /**
+     * Busca, em uma única consulta, quais dos emails normalizados informados já estão cadastrados.
+     *
+     * @param normalizedEmails os emails normalizados a serem verificados
+     * @return o subconjunto de emails normalizados já existentes
+     */
+    @Query("select u.normalizedEmail from User u where u.normalizedEmail in :normalizedEmails")
+    Set<String> findExistingNormalizedEmails(Collection<String> normalizedEmails);
+
+    /**
+     * Busca a projeção de um usuário pelo ID.
+     *
+     * @param id o ID do usuário
+     * @return Optional contendo o DTO do usuário se encontrado
+     */
+    @Cacheable(cacheNames = CacheConfig.USERS_BY_ID, unless = "#result == null")
+    @Query(USER_DTO_SELECT + " where u.id = :id")
+    Optional<UserDTO> findDTOById(Long id);
+
+    /**
+     * Busca a versão e o instante da última alteração de um usuário, sem carregar seus dados.
+     * Usado para responder requisições condicionais sem montar o UserDTO.
+     *
+     * @param id o ID do usuário
+     * @return Optional contendo a versão do usuário se ele existir
+     */
+    @Cacheable(cacheNames = CacheConfig.USER_VERSIONS_BY_ID, unless = "#result == null")
+    @Query("select new com.faculdade.dto.UserVersion(u.version, coalesce(u.updatedAt, u.createdAt)) "
+            + "from User u where u.id = :id")
+    Optional<UserVersion> findVersionById(Long id);
+
+    /**
+     * Calcula a versão da coleção de usuários: o total e a última alteração.
+     * As duas agregações são respondidas pelos índices da chave primária e de updated_at.
+     *
+     * @return a versão atual da coleção
+     */
+    @Query("select new com.faculdade.dto.UserCollectionVersion(count(u), coalesce(max(u.updatedAt), 0L)) from User u")
+    UserCollectionVersion findCollectionVersion();
+
+    /**
+     * Busca a projeção de todos os usuários ordenados por ID.
+     *
+     * @return lista com os DTOs de todos os usuários
+     */
+    @Query(USER_DTO_SELECT + " order by u.id")
+    List<UserDTO> findAllDTOs();
+
+    /**
+     * Busca uma página de usuários por offset, sem executar consulta de contagem.
+     *
+     * @param pageable a página, o tamanho e a ordenação desejados
+     * @return a fatia de DTOs da página
+     */
+    @Query(USER_DTO_SELECT)
+    Slice<UserDTO> findDTOsBy(Pageable pageable);
+
+    /**
+     * Busca os próximos usuários após um ID (paginação keyset).
+     * Usa o índice da chave primária, com custo constante independente da posição.
+     *
+     * @param id o último ID da página anterior
+     * @param limit o número máximo de usuários
+     * @return os DTOs com ID maior que o informado, ordenados por ID
+     */
+    @Query(USER_DTO_SELECT + " where u.id > :id order by u.id")
+    List<UserDTO> findDTOsByIdGreaterThan(Long id, Limit limit);
 
+    /**
+     * Busca um lote de usuários após um ID em sua própria transação somente leitura,
+     * liberando a conexão JDBC ao final de cada lote (usado na exportação).
+     *
+     * @param id o último ID do lote anterior
+     * @param limit o tamanho do lote
+     * @return os DTOs com ID maior que o informado, ordenados por ID
+     */
+    @Transactional(readOnly = true)
+    @Query(USER_DTO_SELECT + " where u.id > :id order by u.id")
+    List<UserDTO> findDTOBatchAfter(Long id, Limit limit);
+}
@@ -0,0 +1,22 @@
+package com.faculdade.repository;
+
+import com.faculdade.domain.User;
+
+import java.util.List;
+
+/**
+ * Operações de repositório implementadas manualmente para a entidade User.
+ * Complementa UserRepository com a inserção em massa agrupada em lotes JDBC.
+ */
+public interface UserRepositoryCustom {
+
+    /**
+     * Insere vários usuários novos agrupando os INSERTs em lotes JDBC.
+     * O contexto de persistência é descarregado e limpo a cada lote, mantendo a memória constante;
+     * por isso, entidades carregadas anteriormente na mesma transação ficam desanexadas.
+     *
+     * @param users os usuários a serem inseridos (sem ID)
+     * @return os mesmos usuários, com os IDs atribuídos
+     */
+    List<User> insertAll(List<User> users);
+}
@@ -0,0 +1,19 @@
+package com.faculdade.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Dados do usuário extraídos de um token JWT já validado.
+ * Obtido a partir de uma única verificação de assinatura do token.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class JwtPrincipal {
+
+    private final String email;
+    private final Long userId;
+    private final long expiresAt;
+}
@@ -1,9 +1,12 @@
 package com.faculdade.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.MacAlgorithm;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -11,20 +14,52 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Componente responsável pela geração e validação de tokens JWT.
  * Implementa a lógica de autenticação stateless usando JWT.
+ * A chave HMAC e o parser são criados uma única vez na inicialização e,
+ * por serem imutáveis, são compartilhados entre todas as threads.
+ * A assinatura e a verificação são medidas pelos timers jwt.sign e jwt.verify.
  */
 @Component
 @Slf4j
 public class JwtTokenProvider {
 
-    @Value("${jwt.secret}")
-    private String jwtSecret;
+    private static final MacAlgorithm SIGNATURE_ALGORITHM = Jwts.SIG.HS256;
+    private static final String USER_ID_CLAIM = "userId";
 
-    @Value("${jwt.expiration}")
-    private long jwtExpiration;
+    private final SecretKey signingKey;
+    private final JwtParser jwtParser;
+    private final long jwtExpiration;
+
+    private final Timer signTimer;
+    private final Timer validVerifyTimer;
+    private final Timer invalidVerifyTimer;
+
+    public JwtTokenProvider(@Value("${jwt.secret}") String jwtSecret,
+                            @Value("${jwt.expiration}") long jwtExpiration,
+                            MeterRegistry meterRegistry) {
+        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        this.jwtExpiration = jwtExpiration;
+
+        this.signTimer = Timer.builder("jwt.sign")
+                .description("Tempo de geração e assinatura de tokens JWT")
+                .register(meterRegistry);
+        this.validVerifyTimer = Timer.builder("jwt.verify")
+                .description("Tempo de verificação de tokens JWT")
+                .tag("result", "valid")
+                .register(meterRegistry);
+        this.invalidVerifyTimer = Timer.builder("jwt.verify")
+                .description("Tempo de verificação de tokens JWT")
+                .tag("result", "invalid")
+                .register(meterRegistry);
+    }
 
     /**
      * Gera um token JWT para um usuário.
@@ -34,17 +69,43 @@ public class JwtTokenProvider {
      * @return o token JWT gerado
      */
     public String generateToken(String email, Long userId) {
-        log.info("Gerando token JWT para usuário: {}", email);
+        log.atDebug().addKeyValue("userId", userId).log("Gerando token JWT");
 
-        SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        return signTimer.record(() -> {
+            long now = System.currentTimeMillis();
 
-        return Jwts.builder()
-                .setSubject(email)
-                .claim("userId", userId)
-                .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + jwtExpiration))
-                .signWith(key, SignatureAlgorithm.HS256)
-                .compact();
+            return Jwts.builder()
+                    .subject(email)
+                    .claim(USER_ID_CLAIM, userId)
+                    .issuedAt(new Date(now))
+                    .expiration(new Date(now + jwtExpiration))
+                    .signWith(signingKey, SIGNATURE_ALGORITHM)
+                    .compact();
+        });
+    }
+
+    /**
+     * Verifica o token JWT e extrai seus dados em uma única operação.
+     * A assinatura é validada apenas uma vez por chamada.
+     *
+     * @param token o token JWT
+     * @return Optional contendo os dados do usuário se o token for válido
+     */
+    public Optional<JwtPrincipal> verifyToken(String token) {
+        long start = System.nanoTime();
+        try {
+            Claims claims = getAllClaimsFromToken(token);
+            JwtPrincipal principal = new JwtPrincipal(
+                    claims.getSubject(),
+                    claims.get(USER_ID_CLAIM, Long.class),
+                    claims.getExpiration().getTime());
+            validVerifyTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return Optional.of(principal);
+        } catch (Exception e) {
+            invalidVerifyTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            log.warn("Falha na validação do token JWT: {}", e.getMessage());
+            return Optional.empty();
+        }
     }
 
     /**
@@ -64,7 +125,7 @@ public class JwtTokenProvider {
      * @return o ID do usuário contido no token
      */
     public Long getUserIdFromToken(String token) {
-        return getAllClaimsFromToken(token).get("userId", Long.class);
+        return getAllClaimsFromToken(token).get(USER_ID_CLAIM, Long.class);
     }
 
     /**
@@ -74,14 +135,13 @@ public class JwtTokenProvider {
      * @return true se o token é válido, false caso contrário
      */
     public boolean validateToken(String token) {
+        long start = System.nanoTime();
         try {
-            SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
+            jwtParser.parseSignedClaims(token);
+            validVerifyTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
             return true;
         } catch (Exception e) {
+            invalidVerifyTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
             log.warn("Falha na validação do token JWT: {}", e.getMessage());
             return false;
         }
@@ -94,12 +154,7 @@ public class JwtTokenProvider {
      * @return as claims contidas no token
      */
     private Claims getAllClaimsFromToken(String token) {
-        SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return jwtParser.parseSignedClaims(token).getPayload();
     }
 
     /**
@@ -111,4 +166,3 @@ public class JwtTokenProvider {
         return jwtExpiration;
     }
 }
-
@@ -0,0 +1,250 @@
+package com.faculdade.security;
+
+import com.faculdade.exception.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Componente responsável por executar o hashing e a verificação de senhas
+ * em um pool de threads dedicado e limitado.
+ * Impede que rajadas de login ocupem todas as threads de requisição do servidor:
+ * quando o pool e a fila estão cheios, a operação é rejeitada imediatamente.
+ * Com threads virtuais (perfil virtual-threads), o hashing continua neste pool de threads
+ * de plataforma: a thread da requisição apenas estaciona aguardando o resultado,
+ * sem fixar (pin) a thread portadora durante o BCrypt.
+ * O tempo de cada operação no pool é medido pelo timer password.hashing (tag operation),
+ * e as rejeições pelo contador password.hashing.rejected.
+ */
+@Component
+@Slf4j
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+
+    private final Timer encodeTimer;
+    private final Timer matchTimer;
+    private final Counter rejections;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${password.hashing.pool-size:0}") int poolSize,
+                                  @Value("${password.hashing.queue-capacity:100}") int queueCapacity) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+
+        this.passwordEncoder = passwordEncoder;
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new HashingThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeTimer = Timer.builder("password.hashing")
+                .description("Tempo de execução do hashing e da verificação de senhas no pool")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchTimer = Timer.builder("password.hashing")
+                .description("Tempo de execução do hashing e da verificação de senhas no pool")
+                .tag("operation", "match")
+                .register(meterRegistry);
+        this.rejections = Counter.builder("password.hashing.rejected")
+                .description("Operações rejeitadas por saturação do pool de hashing")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.queue", this, PasswordHashingService::getQueueSize)
+                .description("Operações aguardando na fila do pool de hashing")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.active", this, PasswordHashingService::getActiveCount)
+                .description("Threads do pool de hashing executando operações")
+                .register(meterRegistry);
+
+        log.info("Pool de hashing de senhas iniciado com {} threads e fila de {}", threads, queueCapacity);
+    }
+
+    /**
+     * Gera o hash de uma senha de forma assíncrona.
+     *
+     * @param rawPassword a senha em texto claro
+     * @return future com o hash da senha
+     * @throws PasswordHashingUnavailableException se o pool estiver saturado
+     */
+    public CompletableFuture<String> encodeAsync(String rawPassword) {
+        return submit(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * Verifica uma senha contra um hash de forma assíncrona.
+     *
+     * @param rawPassword a senha em texto claro
+     * @param encodedPassword o hash armazenado
+     * @return future com true se a senha corresponde ao hash
+     * @throws PasswordHashingUnavailableException se o pool estiver saturado
+     */
+    public CompletableFuture<Boolean> matchesAsync(String rawPassword, String encodedPassword) {
+        return submit(matchTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Gera o hash de uma senha no pool dedicado e aguarda o resultado.
+     *
+     * @param rawPassword a senha em texto claro
+     * @return o hash da senha
+     * @throws PasswordHashingUnavailableException se o pool estiver saturado
+     */
+    public String encode(String rawPassword) {
+        return await(encodeAsync(rawPassword));
+    }
+
+    /**
+     * Verifica uma senha no pool dedicado e aguarda o resultado.
+     *
+     * @param rawPassword a senha em texto claro
+     * @param encodedPassword o hash armazenado
+     * @return true se a senha corresponde ao hash
+     * @throws PasswordHashingUnavailableException se o pool estiver saturado
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return await(matchesAsync(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Gera o hash de várias senhas em paralelo no pool dedicado.
+     * As senhas são submetidas em janelas do tamanho do pool, para que um cadastro
+     * em massa não ocupe a fila inteira e não seja rejeitado por ela.
+     *
+     * @param rawPasswords as senhas em texto claro
+     * @return os hashes, na mesma ordem das senhas
+     * @throws PasswordHashingUnavailableException se o pool estiver saturado
+     */
+    public List<String> encodeAll(List<String> rawPasswords) {
+        int window = executor.getMaximumPoolSize();
+        List<String> hashes = new ArrayList<>(rawPasswords.size());
+
+        for (int start = 0; start < rawPasswords.size(); start += window) {
+            List<CompletableFuture<String>> futures = new ArrayList<>(window);
+            for (String rawPassword : rawPasswords.subList(start, Math.min(start + window, rawPasswords.size()))) {
+                futures.add(encodeAsync(rawPassword));
+            }
+            for (CompletableFuture<String> future : futures) {
+                hashes.add(await(future));
+            }
+        }
+        return hashes;
+    }
+
+    /**
+     * Indica se o hash armazenado deve ser recalculado com a configuração atual.
+     * Operação barata, executada na própria thread chamadora.
+     *
+     * @param encodedPassword o hash armazenado
+     * @return true se o hash deve ser atualizado
+     */
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Obtém o número máximo de threads do pool, usado como janela de submissão
+     * por quem gera vários hashes de uma vez sem bloquear (ver encodeAll).
+     *
+     * @return o número máximo de threads
+     */
+    public int getMaximumPoolSize() {
+        return executor.getMaximumPoolSize();
+    }
+
+    /**
+     * Obtém o número de operações aguardando na fila.
+     *
+     * @return o tamanho atual da fila
+     */
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * Obtém o número de threads executando operações no momento.
+     *
+     * @return o número de threads ativas
+     */
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    /**
+     * Encerra o pool de threads ao finalizar a aplicação.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Submete uma tarefa ao pool, rejeitando-a imediatamente se estiver saturado.
+     * O timer mede apenas a execução no pool, sem o tempo de espera na fila.
+     *
+     * @param timer o timer da operação
+     * @param task a tarefa de hashing ou verificação
+     * @return future com o resultado da tarefa
+     */
+    private <T> CompletableFuture<T> submit(Timer timer, Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(() -> timer.record(task), executor);
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            log.warn("Pool de hashing de senhas saturado, requisição rejeitada");
+            throw new PasswordHashingUnavailableException("Servidor sobrecarregado, tente novamente em instantes", e);
+        }
+    }
+
+    /**
+     * Aguarda o resultado de uma tarefa, propagando a exceção original em caso de erro.
+     *
+     * @param future o future da tarefa
+     * @return o resultado da tarefa
+     */
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Fábrica de threads nomeadas para facilitar o diagnóstico.
+     */
+    private static class HashingThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hashing-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.faculdade.security;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Encoder BCrypt que considera desatualizado qualquer hash com custo
+ * diferente do custo alvo, seja ele mais fraco ou mais forte.
+ * Permite ajustar o custo por ambiente sem precisar recalcular todos os hashes de uma vez.
+ */
+@Getter
+@Slf4j
+public class TargetStrengthBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private static final Pattern BCRYPT_COST_PATTERN = Pattern.compile("^\\$2[aby]?\\$(\\d\\d)\\$");
+    private static final int MIN_STRENGTH = 4;
+    private static final int MAX_STRENGTH = 31;
+
+    private final int strength;
+
+    public TargetStrengthBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    /**
+     * Indica se o hash deve ser recalculado por ter custo diferente do alvo.
+     *
+     * @param encodedPassword o hash BCrypt armazenado
+     * @return true se o custo do hash difere do custo alvo
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST_PATTERN.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != strength;
+    }
+
+    /**
+     * Calibra o custo do BCrypt para o host atual.
+     * Escolhe o maior custo cujo tempo de hash não ultrapassa o tempo alvo,
+     * nunca ficando abaixo do custo mínimo informado.
+     *
+     * @param minStrength o custo mínimo aceitável
+     * @param maxStrength o custo máximo a ser testado
+     * @param targetMillis o tempo alvo de um hash em milissegundos
+     * @return o custo calibrado
+     */
+    public static int calibrate(int minStrength, int maxStrength, long targetMillis) {
+        int floor = Math.max(minStrength, MIN_STRENGTH);
+        int ceiling = Math.min(maxStrength, MAX_STRENGTH);
+
+        // Aquece o JIT antes de medir
+        new BCryptPasswordEncoder(MIN_STRENGTH).encode("calibracao");
+
+        int chosen = floor;
+        for (int strength = floor; strength <= ceiling; strength++) {
+            long start = System.nanoTime();
+            new BCryptPasswordEncoder(strength).encode("calibracao");
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            if (elapsedMillis > targetMillis) {
+                break;
+            }
+            chosen = strength;
+        }
+
+        log.info("Custo do BCrypt calibrado para {} (tempo alvo: {} ms)", chosen, targetMillis);
+        return chosen;
+    }
+}
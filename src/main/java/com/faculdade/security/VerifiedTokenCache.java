@@ -0,0 +1,134 @@
+package com.faculdade.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache limitado de tokens JWT já verificados.
+ * Mapeia o hash SHA-256 do token para os dados extraídos na verificação,
+ * evitando repetir a validação da assinatura a cada requisição.
+ * As entradas expiram junto com o token ou são removidas por limite de tamanho.
+ * Acertos, falhas, remoções e tamanho são publicados como métricas cache.* com a tag cache=jwt.verified.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final boolean enabled;
+    private final Cache<String, JwtPrincipal> cache;
+
+    public VerifiedTokenCache(@Value("${jwt.cache.enabled:true}") boolean enabled,
+                              @Value("${jwt.cache.max-size:10000}") long maxSize,
+                              MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.verified");
+    }
+
+    /**
+     * Busca os dados de um token já verificado.
+     *
+     * @param token o token JWT
+     * @return Optional contendo os dados do usuário se o token estiver no cache
+     */
+    public Optional<JwtPrincipal> get(String token) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(cache.getIfPresent(digest(token)));
+    }
+
+    /**
+     * Armazena os dados de um token que acabou de ser verificado.
+     * Tokens já expirados não são armazenados.
+     *
+     * @param token o token JWT
+     * @param principal os dados extraídos do token
+     */
+    public void put(String token, JwtPrincipal principal) {
+        if (enabled && principal.getExpiresAt() > System.currentTimeMillis()) {
+            cache.put(digest(token), principal);
+        }
+    }
+
+    /**
+     * Indica se o cache está habilitado.
+     *
+     * @return true se o cache está habilitado
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Obtém as estatísticas de acertos, falhas e remoções do cache.
+     *
+     * @return as estatísticas do cache
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * Obtém o número aproximado de entradas no cache.
+     *
+     * @return o número de entradas
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * Calcula o hash SHA-256 do token, usado como chave do cache.
+     * Evita manter o token em texto claro na memória do cache.
+     *
+     * @param token o token JWT
+     * @return o hash do token em hexadecimal
+     */
+    private static String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 não disponível", e);
+        }
+    }
+
+    /**
+     * Política de expiração que mantém cada entrada até a expiração do próprio token.
+     */
+    private static class TokenExpiry implements Expiry<String, JwtPrincipal> {
+
+        @Override
+        public long expireAfterCreate(String key, JwtPrincipal value, long currentTime) {
+            long remainingMillis = value.getExpiresAt() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JwtPrincipal value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, JwtPrincipal value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -3,10 +3,13 @@ package com.faculdade.service;
 import com.faculdade.domain.User;
 import com.faculdade.dto.AuthResponse;
 import com.faculdade.dto.LoginRequest;
+import com.faculdade.dto.UserDTO;
+import com.faculdade.exception.InvalidCredentialsException;
+import com.faculdade.exception.PasswordHashingUnavailableException;
 import com.faculdade.security.JwtTokenProvider;
+import com.faculdade.security.PasswordHashingService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 /**
@@ -20,39 +23,61 @@ public class AuthService {
 
     private final UserService userService;
     private final JwtTokenProvider jwtTokenProvider;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
 
     /**
      * Autentica um usuário e gera um token JWT.
      *
      * @param request dados de login
      * @return resposta com token JWT
-     * @throws IllegalArgumentException se as credenciais forem inválidas
+     * @throws InvalidCredentialsException se a senha não conferir
      */
     public AuthResponse authenticate(LoginRequest request) {
-        log.info("Autenticando usuário com email: {}", request.getEmail());
+        log.debug("Autenticando usuário");
 
         // Busca o usuário pelo email
         User user = userService.getUserByEmail(request.getEmail());
 
         // Valida a senha
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
-            log.warn("Falha na autenticação: senha inválida para email: {}", request.getEmail());
-            throw new IllegalArgumentException("Email ou senha inválidos");
+        if (!passwordHashingService.matches(request.getPassword(), user.getPassword())) {
+            log.atWarn().addKeyValue("userId", user.getId()).log("Falha na autenticação: senha inválida");
+            throw new InvalidCredentialsException("Email ou senha inválidos");
         }
 
+        // Atualiza o hash se o custo configurado mudou
+        upgradePasswordHashIfNeeded(user, request.getPassword());
+
         // Gera o token JWT
         String token = jwtTokenProvider.generateToken(user.getEmail(), user.getId());
 
-        log.info("Usuário autenticado com sucesso: {}", request.getEmail());
+        log.atDebug().addKeyValue("userId", user.getId()).log("Usuário autenticado");
 
-        // Retorna a resposta com o token
+        // Retorna a resposta com o token, reaproveitando o usuário já carregado
         return AuthResponse.builder()
                 .token(token)
                 .tokenType("Bearer")
                 .expiresIn(jwtTokenProvider.getExpirationTime())
-                .user(userService.getUserById(user.getId()))
+                .user(UserDTO.fromEntity(user))
                 .build();
     }
-}
 
+    /**
+     * Recalcula o hash da senha com o custo atual quando o hash armazenado está desatualizado.
+     * Falhas na atualização não impedem o login; a atualização é tentada no próximo acesso.
+     *
+     * @param user o usuário autenticado
+     * @param rawPassword a senha em texto claro já validada
+     */
+    private void upgradePasswordHashIfNeeded(User user, String rawPassword) {
+        if (!passwordHashingService.upgradeEncoding(user.getPassword())) {
+            return;
+        }
+
+        try {
+            userService.updatePasswordHash(user.getId(), passwordHashingService.encode(rawPassword));
+            log.atDebug().addKeyValue("userId", user.getId()).log("Hash de senha atualizado");
+        } catch (PasswordHashingUnavailableException e) {
+            log.warn("Atualização do hash de senha adiada para o usuário ID: {}", user.getId());
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.faculdade.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom para strings, seguro para uso concorrente.
+ * Responde "talvez contenha" ou "certamente não contém": nunca gera falsos negativos,
+ * e a taxa de falsos positivos é limitada pelo dimensionamento.
+ * Não suporta remoção; elementos removidos só deixam de ser considerados após reconstrução.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashFunctions;
+    private final AtomicLong insertions = new AtomicLong();
+
+    private BloomFilter(long bitSize, int hashFunctions) {
+        this.bitSize = bitSize;
+        this.hashFunctions = hashFunctions;
+        this.bits = new AtomicLongArray((int) ((bitSize + 63) / 64));
+    }
+
+    /**
+     * Cria um filtro dimensionado para o número esperado de elementos e a taxa de falsos positivos desejada.
+     *
+     * @param expectedInsertions o número esperado de elementos
+     * @param falsePositiveRate a taxa de falsos positivos desejada (entre 0 e 1)
+     * @return o filtro criado
+     */
+    public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(expectedInsertions, 1);
+        long bitSize = Math.max(64, (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+        int hashFunctions = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+        return new BloomFilter(bitSize, hashFunctions);
+    }
+
+    /**
+     * Adiciona um elemento ao filtro.
+     * Só conta como inserção se algum bit mudou, para que adicionar de novo
+     * o mesmo elemento não distorça a taxa estimada de falsos positivos.
+     *
+     * @param value o elemento
+     */
+    public void put(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        boolean changed = false;
+        for (int i = 1; i <= hashFunctions; i++) {
+            long bit = Math.floorMod(h1 + (long) i * h2, bitSize);
+            changed |= setBit(bit);
+        }
+        if (changed) {
+            insertions.incrementAndGet();
+        }
+    }
+
+    /**
+     * Verifica se o elemento pode estar no filtro.
+     *
+     * @param value o elemento
+     * @return false se o elemento certamente não foi adicionado; true se talvez tenha sido
+     */
+    public boolean mightContain(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        for (int i = 1; i <= hashFunctions; i++) {
+            long bit = Math.floorMod(h1 + (long) i * h2, bitSize);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Obtém a memória ocupada pelo vetor de bits.
+     *
+     * @return o tamanho do vetor de bits em bytes
+     */
+    public long memoryBytes() {
+        return (long) bits.length() * Long.BYTES;
+    }
+
+    /**
+     * Estima a taxa de falsos positivos com base no número de elementos inseridos.
+     *
+     * @return a taxa estimada de falsos positivos
+     */
+    public double expectedFalsePositiveRate() {
+        double fillRatio = 1 - Math.exp(-(double) hashFunctions * insertions.get() / bitSize);
+        return Math.pow(fillRatio, hashFunctions);
+    }
+
+    /**
+     * Obtém o número aproximado de elementos distintos inseridos.
+     *
+     * @return o número de inserções
+     */
+    public long insertions() {
+        return insertions.get();
+    }
+
+    private boolean setBit(long bit) {
+        int index = (int) (bit >>> 6);
+        long mask = 1L << bit;
+        long current;
+        do {
+            current = bits.get(index);
+            if ((current & mask) != 0) {
+                return false;
+            }
+        } while (!bits.compareAndSet(index, current, current | mask));
+        return true;
+    }
+
+    /**
+     * Calcula um hash de 64 bits (FNV-1a seguido de mistura final) do valor.
+     *
+     * @param value o valor
+     * @return o hash de 64 bits
+     */
+    private static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
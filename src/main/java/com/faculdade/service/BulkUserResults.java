@@ -0,0 +1,127 @@
+package com.faculdade.service;
+
+import com.faculdade.domain.User;
+import com.faculdade.dto.BulkCreateUsersResponse;
+import com.faculdade.dto.BulkUserResult;
+import com.faculdade.dto.CreateUserRequest;
+import com.faculdade.exception.BulkRequestTooLargeException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Etapas do cadastro em massa comuns às variantes servlet e reativa:
+ * limite de itens, validação de cada item e montagem dos resultados.
+ */
+final class BulkUserResults {
+
+    private BulkUserResults() {
+    }
+
+    /**
+     * Verifica se a requisição respeita o número máximo de itens.
+     *
+     * @param size o número de itens da requisição
+     * @param maxSize o máximo permitido
+     * @throws BulkRequestTooLargeException se a requisição tiver itens demais
+     */
+    static void checkSize(int size, int maxSize) {
+        if (size > maxSize) {
+            throw new BulkRequestTooLargeException(
+                    "O cadastro em massa aceita no máximo " + maxSize + " usuários por requisição");
+        }
+    }
+
+    /**
+     * Valida cada item e descarta emails repetidos (sem distinção de caixa) dentro da própria requisição.
+     * Itens nulos, inválidos ou repetidos recebem seu resultado em results.
+     *
+     * @param requests os itens da requisição
+     * @param validator o validador das restrições de CreateUserRequest
+     * @param results o array de resultados a ser preenchido
+     * @return as posições dos itens que seguem para a verificação no banco
+     */
+    static List<Integer> validate(List<CreateUserRequest> requests, Validator validator, BulkUserResult[] results) {
+        List<Integer> candidates = new ArrayList<>();
+        Set<String> requestEmails = new HashSet<>();
+        for (int i = 0; i < requests.size(); i++) {
+            CreateUserRequest request = requests.get(i);
+            if (request == null) {
+                results[i] = failure(i, null, BulkUserResult.Status.INVALID, "Item nulo");
+                continue;
+            }
+            Set<ConstraintViolation<CreateUserRequest>> violations = validator.validate(request);
+
+            if (!violations.isEmpty()) {
+                results[i] = failure(i, request, BulkUserResult.Status.INVALID, violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining("; ")));
+            } else if (!requestEmails.add(User.normalizeEmail(request.getEmail()))) {
+                results[i] = failure(i, request, BulkUserResult.Status.DUPLICATE, "Email repetido na requisição");
+            } else {
+                candidates.add(i);
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Monta a resposta a partir dos resultados de todos os itens.
+     *
+     * @param results os resultados, na ordem da requisição
+     * @return a resposta com os totais e os resultados
+     */
+    static BulkCreateUsersResponse response(BulkUserResult[] results) {
+        int created = (int) Arrays.stream(results)
+                .filter(result -> result.getStatus() == BulkUserResult.Status.CREATED)
+                .count();
+
+        return BulkCreateUsersResponse.builder()
+                .created(created)
+                .failed(results.length - created)
+                .results(List.of(results))
+                .build();
+    }
+
+    /**
+     * Monta o resultado de um item criado com sucesso.
+     *
+     * @param index a posição do item na requisição
+     * @param user o usuário persistido
+     * @return o resultado do item
+     */
+    static BulkUserResult success(int index, User user) {
+        return BulkUserResult.builder()
+                .index(index)
+                .email(user.getEmail())
+                .status(BulkUserResult.Status.CREATED)
+                .id(user.getId())
+                .build();
+    }
+
+    /**
+     * Monta o resultado de um item que não pôde ser criado.
+     *
+     * @param index a posição do item na requisição
+     * @param request o item da requisição, ou null se o item veio nulo
+     * @param status a situação do item
+     * @param message o motivo da falha
+     * @return o resultado do item
+     */
+    static BulkUserResult failure(int index, CreateUserRequest request,
+                                  BulkUserResult.Status status, String message) {
+        return BulkUserResult.builder()
+                .index(index)
+                .email(request != null ? request.getEmail() : null)
+                .status(status)
+                .message(message)
+                .build();
+    }
+}
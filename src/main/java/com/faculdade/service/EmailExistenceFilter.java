@@ -0,0 +1,242 @@
+package com.faculdade.service;
+
+import com.faculdade.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Filtro em memória que indica se um email pode estar cadastrado.
+ * Trabalha com emails normalizados (ver User.normalizeEmail).
+ * Construído na inicialização a partir da coluna users.normalized_email e mantido a cada escrita
+ * de usuário (ver UserEmailFilterListener). É apenas uma verificação prévia do cadastro:
+ * uma resposta positiva deve ser confirmada no UserRepository, e as buscas da autenticação
+ * nunca o consultam, indo sempre ao banco.
+ * Emails removidos ou alterados continuam no filtro até a próxima reconstrução,
+ * disparada em segundo plano quando o número de entradas obsoletas passa do limite.
+ */
+@Component
+@Slf4j
+public class EmailExistenceFilter {
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final double staleRatio;
+
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "email-filter-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final AtomicLong staleEntries = new AtomicLong();
+
+    private final Counter negativeChecks;
+    private final Counter positiveChecks;
+    private final Counter falsePositives;
+
+    private volatile BloomFilter current;
+    private volatile BloomFilter pending;
+
+    public EmailExistenceFilter(UserRepository userRepository,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry,
+                                @Value("${user.email-filter.enabled:true}") boolean enabled,
+                                @Value("${user.email-filter.expected-insertions:100000}") long expectedInsertions,
+                                @Value("${user.email-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                                @Value("${user.email-filter.stale-ratio:0.2}") double staleRatio) {
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.staleRatio = staleRatio;
+
+        this.negativeChecks = Counter.builder("user.email.filter.checks")
+                .description("Consultas ao filtro de emails")
+                .tag("result", "negative")
+                .register(meterRegistry);
+        this.positiveChecks = Counter.builder("user.email.filter.checks")
+                .description("Consultas ao filtro de emails")
+                .tag("result", "positive")
+                .register(meterRegistry);
+        this.falsePositives = Counter.builder("user.email.filter.false.positives")
+                .description("Respostas positivas do filtro não confirmadas no banco")
+                .register(meterRegistry);
+        Gauge.builder("user.email.filter.memory", this, filter -> filter.memoryBytes())
+                .description("Memória ocupada pelo filtro de emails")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("user.email.filter.expected.fpp", this, filter -> filter.expectedFalsePositiveRate())
+                .description("Taxa de falsos positivos estimada para o preenchimento atual")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Constrói o filtro a partir dos emails cadastrados quando a aplicação fica pronta.
+     * Até lá, o filtro responde positivamente a todas as consultas.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Reconstrói o filtro a partir da coluna users.normalized_email, descartando as entradas obsoletas.
+     * Emails registrados durante a leitura são adicionados também ao novo filtro.
+     */
+    public void rebuild() {
+        long users = readOnlyTransaction.execute(status -> userRepository.count());
+        BloomFilter next = BloomFilter.create(Math.max(expectedInsertions, users * 2), falsePositiveRate);
+        pending = next;
+        staleEntries.set(0);
+
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<String> emails = userRepository.streamAllNormalizedEmails()) {
+                    emails.forEach(next::put);
+                }
+            });
+            current = next;
+            log.info("Filtro de emails construído com {} emails ({} bytes)", next.insertions(), next.memoryBytes());
+        } finally {
+            pending = null;
+        }
+    }
+
+    /**
+     * Verifica se o email pode estar cadastrado.
+     *
+     * @param email o email normalizado a ser verificado
+     * @return false se o email certamente não está cadastrado; true se talvez esteja
+     */
+    public boolean mightContain(String email) {
+        BloomFilter filter = current;
+        if (filter == null || email == null) {
+            return true;
+        }
+
+        boolean result = filter.mightContain(email);
+        (result ? positiveChecks : negativeChecks).increment();
+        return result;
+    }
+
+    /**
+     * Registra um email cadastrado. O registro é feito imediatamente e repetido
+     * após o commit, para não se perder caso uma reconstrução leia o banco antes do commit.
+     *
+     * @param email o email normalizado cadastrado
+     */
+    public void put(String email) {
+        if (!enabled || email == null) {
+            return;
+        }
+
+        doPut(email);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    doPut(email);
+                }
+            });
+        }
+    }
+
+    /**
+     * Registra que um email deixou de existir. Como o filtro não suporta remoção,
+     * a entrada passa a ser obsoleta e o filtro é reconstruído em segundo plano
+     * quando as entradas obsoletas passam da fração configurada.
+     */
+    public void markStale() {
+        BloomFilter filter = current;
+        if (!enabled || filter == null) {
+            return;
+        }
+
+        long stale = staleEntries.incrementAndGet();
+        if (stale > Math.max(1, filter.insertions() * staleRatio) && rebuilding.compareAndSet(false, true)) {
+            rebuildExecutor.execute(() -> {
+                try {
+                    rebuild();
+                } catch (RuntimeException e) {
+                    log.warn("Falha ao reconstruir o filtro de emails", e);
+                } finally {
+                    rebuilding.set(false);
+                }
+            });
+        }
+    }
+
+    /**
+     * Registra que uma resposta positiva do filtro não foi confirmada no banco.
+     */
+    public void recordFalsePositive() {
+        falsePositives.increment();
+    }
+
+    /**
+     * Obtém a memória ocupada pelo filtro.
+     *
+     * @return o tamanho do filtro em bytes (0 se ainda não construído)
+     */
+    public long memoryBytes() {
+        BloomFilter filter = current;
+        return filter == null ? 0 : filter.memoryBytes();
+    }
+
+    /**
+     * Estima a taxa de falsos positivos do filtro.
+     *
+     * @return a taxa estimada (0 se ainda não construído)
+     */
+    public double expectedFalsePositiveRate() {
+        BloomFilter filter = current;
+        return filter == null ? 0 : filter.expectedFalsePositiveRate();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    private void doPut(String email) {
+        BloomFilter filter = current;
+        if (filter != null) {
+            filter.put(email);
+        }
+        BloomFilter next = pending;
+        if (next != null) {
+            next.put(email);
+        }
+
+        // Uma reconstrução pode ter trocado o filtro e limpado pending entre as leituras acima
+        BloomFilter latest = current;
+        if (latest != null && latest != filter && latest != next) {
+            latest.put(email);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.faculdade.service;
+
+import com.faculdade.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Codificação dos cursores opacos usados na paginação keyset de usuários.
+ */
+final class PageCursors {
+
+    private PageCursors() {
+    }
+
+    /**
+     * Codifica o último ID de uma página em um cursor opaco.
+     *
+     * @param lastId o último ID da página
+     * @return o cursor codificado
+     */
+    static String encode(Long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Long.toString(lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica um cursor opaco no último ID da página anterior.
+     *
+     * @param cursor o cursor codificado
+     * @return o último ID da página anterior
+     * @throws InvalidCursorException se o cursor for inválido
+     */
+    static long decode(String cursor) {
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Cursor de paginação inválido", e);
+        }
+    }
+}
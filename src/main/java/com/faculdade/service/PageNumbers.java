@@ -0,0 +1,27 @@
+package com.faculdade.service;
+
+import com.faculdade.exception.InvalidPageException;
+
+/**
+ * Validação dos números de página usados na paginação por offset de usuários.
+ */
+final class PageNumbers {
+
+    private PageNumbers() {
+    }
+
+    /**
+     * Verifica se a página é não negativa e se o offset resultante cabe em um int,
+     * limite do offset aceito pelo Hibernate.
+     *
+     * @param page o número da página, começando em 0
+     * @param pageSize o tamanho efetivo da página
+     * @throws InvalidPageException se a página for negativa ou grande demais para o tamanho
+     */
+    static void check(int page, int pageSize) {
+        int maxPage = (Integer.MAX_VALUE - pageSize) / pageSize;
+        if (page < 0 || page > maxPage) {
+            throw new InvalidPageException("A página deve estar entre 0 e " + maxPage + " para o tamanho " + pageSize);
+        }
+    }
+}
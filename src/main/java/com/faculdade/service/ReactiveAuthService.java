@@ -0,0 +1,85 @@
+package com.faculdade.service;
+
+import com.faculdade.domain.User;
+import com.faculdade.dto.AuthResponse;
+import com.faculdade.dto.LoginRequest;
+import com.faculdade.dto.UserDTO;
+import com.faculdade.exception.InvalidCredentialsException;
+import com.faculdade.exception.PasswordHashingUnavailableException;
+import com.faculdade.security.JwtTokenProvider;
+import com.faculdade.security.PasswordHashingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Serviço de autenticação da variante reativa.
+ * Equivalente a AuthService, com a verificação da senha no pool limitado de hashing.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveAuthService {
+
+    private final ReactiveUserService userService;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final PasswordHashingService passwordHashingService;
+
+    /**
+     * Autentica um usuário e gera um token JWT.
+     *
+     * @param request dados de login
+     * @return Mono com a resposta contendo o token JWT, ou erro InvalidCredentialsException
+     *         se a senha não conferir
+     */
+    public Mono<AuthResponse> authenticate(LoginRequest request) {
+        log.debug("Autenticando usuário");
+
+        return userService.getUserByEmail(request.getEmail())
+                .flatMap(user -> Mono.fromFuture(() ->
+                                passwordHashingService.matchesAsync(request.getPassword(), user.getPassword()))
+                        .flatMap(matches -> {
+                            if (!matches) {
+                                log.atWarn().addKeyValue("userId", user.getId()).log("Falha na autenticação: senha inválida");
+                                return Mono.error(new InvalidCredentialsException("Email ou senha inválidos"));
+                            }
+                            return upgradePasswordHashIfNeeded(user, request.getPassword()).thenReturn(user);
+                        }))
+                .map(user -> {
+                    String token = jwtTokenProvider.generateToken(user.getEmail(), user.getId());
+                    log.atDebug().addKeyValue("userId", user.getId()).log("Usuário autenticado");
+
+                    return AuthResponse.builder()
+                            .token(token)
+                            .tokenType("Bearer")
+                            .expiresIn(jwtTokenProvider.getExpirationTime())
+                            .user(UserDTO.fromEntity(user))
+                            .build();
+                });
+    }
+
+    /**
+     * Recalcula o hash da senha com o custo atual quando o hash armazenado está desatualizado.
+     * Falhas na atualização não impedem o login; a atualização é tentada no próximo acesso.
+     *
+     * @param user o usuário autenticado
+     * @param rawPassword a senha em texto claro já validada
+     * @return Mono que completa após a atualização (ou imediatamente, se não for necessária)
+     */
+    private Mono<Void> upgradePasswordHashIfNeeded(User user, String rawPassword) {
+        if (!passwordHashingService.upgradeEncoding(user.getPassword())) {
+            return Mono.empty();
+        }
+
+        return Mono.fromFuture(() -> passwordHashingService.encodeAsync(rawPassword))
+                .flatMap(hash -> userService.updatePasswordHash(user.getId(), hash))
+                .doOnSuccess(ignored -> log.atDebug().addKeyValue("userId", user.getId()).log("Hash de senha atualizado"))
+                .onErrorResume(PasswordHashingUnavailableException.class, e -> {
+                    log.warn("Atualização do hash de senha adiada para o usuário ID: {}", user.getId());
+                    return Mono.empty();
+                });
+    }
+}
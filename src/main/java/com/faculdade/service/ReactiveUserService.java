@@ -0,0 +1,133 @@
+package com.faculdade.service;
+
+import com.faculdade.domain.User;
+import com.faculdade.dto.BulkCreateUsersResponse;
+import com.faculdade.dto.CreateUserRequest;
+import com.faculdade.dto.UpdateUserRequest;
+import com.faculdade.dto.UserCollectionVersion;
+import com.faculdade.dto.UserDTO;
+import com.faculdade.dto.UserPage;
+import com.faculdade.dto.UserVersion;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Interface de serviço reativo para operações de usuário, usada pela variante WebFlux.
+ * Oferece as mesmas operações de UserService, sem bloquear a thread chamadora.
+ */
+public interface ReactiveUserService {
+
+    /**
+     * Cria um novo usuário.
+     *
+     * @param request dados do novo usuário
+     * @return Mono com o usuário criado como DTO
+     */
+    Mono<UserDTO> createUser(CreateUserRequest request);
+
+    /**
+     * Cria vários usuários de uma vez, com os mesmos resultados por item de UserService.
+     *
+     * @param requests dados dos novos usuários (itens nulos são reportados como inválidos)
+     * @return Mono com o resultado de cada item, na ordem da requisição
+     */
+    Mono<BulkCreateUsersResponse> createUsers(List<CreateUserRequest> requests);
+
+    /**
+     * Busca um usuário pelo ID.
+     *
+     * @param id o ID do usuário
+     * @return Mono com o DTO do usuário, ou erro UserNotFoundException
+     */
+    Mono<UserDTO> getUserById(Long id);
+
+    /**
+     * Obtém a versão de um usuário, sem montar o DTO.
+     *
+     * @param id o ID do usuário
+     * @return Mono com a versão do usuário, ou erro UserNotFoundException
+     */
+    Mono<UserVersion> getUserVersion(Long id);
+
+    /**
+     * Obtém a versão da coleção de usuários, usada como validador da listagem.
+     *
+     * @return Mono com a versão atual da coleção
+     */
+    Mono<UserCollectionVersion> getUsersVersion();
+
+    /**
+     * Busca um usuário pelo email, sem distinção de caixa.
+     *
+     * @param email o email do usuário
+     * @return Mono com o usuário, ou erro UserNotFoundException
+     */
+    Mono<User> getUserByEmail(String email);
+
+    /**
+     * Busca uma página de usuários por offset.
+     *
+     * @param page o número da página, começando em 0
+     * @param size o tamanho da página (nulo usa o padrão)
+     * @return Mono com a página de usuários, ou erro InvalidPageException se a página for negativa ou grande demais
+     */
+    Mono<UserPage> getUsers(int page, Integer size);
+
+    /**
+     * Busca a página de usuários seguinte a um cursor (paginação keyset).
+     *
+     * @param cursor o cursor da página anterior (nulo para a primeira página)
+     * @param size o tamanho da página (nulo usa o padrão)
+     * @return Mono com a página de usuários, ou erro InvalidCursorException
+     */
+    Mono<UserPage> getUsersAfter(String cursor, Integer size);
+
+    /**
+     * Percorre todos os usuários ordenados por ID, com contrapressão do consumidor.
+     *
+     * @return os DTOs de todos os usuários
+     */
+    Flux<UserDTO> exportUsers();
+
+    /**
+     * Atualiza um usuário existente com controle otimista de concorrência, como em UserService.
+     *
+     * @param id o ID do usuário
+     * @param request dados atualizados
+     * @param expectedVersion a versão que o cliente leu (header If-Match), ou null para não exigir uma versão
+     * @return Mono com o usuário atualizado como DTO, ou erro UserVersionMismatchException
+     *         ou OptimisticLockingFailureException
+     */
+    Mono<UserDTO> updateUser(Long id, CreateUserRequest request, Long expectedVersion);
+
+    /**
+     * Atualiza apenas os campos informados de um usuário, como em UserService.
+     * A senha só é recalculada quando uma nova senha é informada.
+     *
+     * @param id o ID do usuário
+     * @param request os campos a alterar; campos nulos são mantidos
+     * @param expectedVersion a versão que o cliente leu (header If-Match), ou null para não exigir uma versão
+     * @return Mono com o usuário atualizado como DTO, ou erro UserVersionMismatchException
+     *         ou OptimisticLockingFailureException
+     */
+    Mono<UserDTO> patchUser(Long id, UpdateUserRequest request, Long expectedVersion);
+
+    /**
+     * Substitui o hash de senha de um usuário.
+     *
+     * @param id o ID do usuário
+     * @param encodedPassword o novo hash da senha
+     * @return Mono que completa após a atualização
+     */
+    Mono<Void> updatePasswordHash(Long id, String encodedPassword);
+
+    /**
+     * Deleta um usuário.
+     *
+     * @param id o ID do usuário
+     * @return Mono que completa após a remoção, ou erro UserNotFoundException
+     */
+    Mono<Void> deleteUser(Long id);
+}
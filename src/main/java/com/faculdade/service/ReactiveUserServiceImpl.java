@@ -0,0 +1,410 @@
+package com.faculdade.service;
+
+import com.faculdade.domain.User;
+import com.faculdade.dto.BulkCreateUsersResponse;
+import com.faculdade.dto.BulkUserResult;
+import com.faculdade.dto.CreateUserRequest;
+import com.faculdade.dto.UpdateUserRequest;
+import com.faculdade.dto.UserCollectionVersion;
+import com.faculdade.dto.UserDTO;
+import com.faculdade.dto.UserPage;
+import com.faculdade.dto.UserVersion;
+import com.faculdade.exception.EmailAlreadyExistsException;
+import com.faculdade.exception.UserNotFoundException;
+import com.faculdade.exception.UserVersionMismatchException;
+import com.faculdade.repository.ReactiveUserRepository;
+import com.faculdade.security.PasswordHashingService;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Implementação reativa do serviço de usuários, sobre R2DBC.
+ * O hashing de senhas roda no pool limitado de PasswordHashingService,
+ * sem ocupar as threads do event loop. As escritas atualizam o EmailExistenceFilter
+ * diretamente, já que o listener JPA não é acionado pelo R2DBC.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveUserServiceImpl implements ReactiveUserService {
+
+    private final ReactiveUserRepository userRepository;
+    private final PasswordHashingService passwordHashingService;
+    private final EmailExistenceFilter emailExistenceFilter;
+    private final Validator validator;
+
+    @Value("${api.users.bulk.max-size:1000}")
+    private int bulkMaxSize;
+
+    @Value("${api.users.page.default-size:20}")
+    private int defaultPageSize;
+
+    @Value("${api.users.page.max-size:100}")
+    private int maxPageSize;
+
+    @Override
+    public Mono<UserDTO> createUser(CreateUserRequest request) {
+        log.debug("Criando novo usuário");
+
+        return encode(request.getPassword())
+                .flatMap(hash -> userRepository.insert(User.builder()
+                        .name(request.getName())
+                        .email(request.getEmail())
+                        .password(hash)
+                        .active(true)
+                        .build()))
+                .onErrorMap(DataIntegrityViolationException.class, this::translateEmailConflict)
+                .doOnNext(user -> {
+                    emailExistenceFilter.put(user.getNormalizedEmail());
+                    log.atDebug().addKeyValue("userId", user.getId()).log("Usuário criado");
+                })
+                .map(UserDTO::fromEntity);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Segue as etapas de UserServiceImpl: validação, filtro de existência, consulta dos emails
+     * já cadastrados e hashing de todas as senhas antes de qualquer inserção, para que um 503
+     * do pool de hashing não deixe o cadastro pela metade. Sem gerenciador de transações R2DBC,
+     * cada usuário é inserido em seu próprio comando, então não há lote a desfazer.
+     */
+    @Override
+    public Mono<BulkCreateUsersResponse> createUsers(List<CreateUserRequest> requests) {
+        return Mono.defer(() -> {
+            log.atDebug().addKeyValue("count", requests.size()).log("Criando usuários em massa");
+
+            BulkUserResults.checkSize(requests.size(), bulkMaxSize);
+
+            BulkUserResult[] results = new BulkUserResult[requests.size()];
+            List<Integer> candidates = BulkUserResults.validate(requests, validator, results);
+
+            // Consulta o banco apenas para os emails que o filtro indica como possivelmente cadastrados
+            Set<String> possibleDuplicates = new HashSet<>();
+            for (int i : candidates) {
+                String email = User.normalizeEmail(requests.get(i).getEmail());
+                if (emailExistenceFilter.mightContain(email)) {
+                    possibleDuplicates.add(email);
+                }
+            }
+            Mono<Set<String>> existingEmails = possibleDuplicates.isEmpty()
+                    ? Mono.just(Set.of())
+                    : userRepository.findExistingNormalizedEmails(possibleDuplicates).collect(Collectors.toSet());
+
+            return existingEmails.flatMap(existing -> {
+                for (int i = possibleDuplicates.size() - existing.size(); i > 0; i--) {
+                    emailExistenceFilter.recordFalsePositive();
+                }
+
+                List<Integer> accepted = new ArrayList<>(candidates.size());
+                for (int i : candidates) {
+                    if (existing.contains(User.normalizeEmail(requests.get(i).getEmail()))) {
+                        results[i] = BulkUserResults.failure(i, requests.get(i),
+                                BulkUserResult.Status.DUPLICATE, "Email já cadastrado no sistema");
+                    } else {
+                        accepted.add(i);
+                    }
+                }
+
+                // Submete os hashes em janelas do tamanho do pool, como PasswordHashingService.encodeAll
+                return Flux.fromIterable(accepted)
+                        .flatMapSequential(i -> encode(requests.get(i).getPassword()),
+                                passwordHashingService.getMaximumPoolSize())
+                        .collectList()
+                        .flatMapMany(hashes -> Flux.range(0, accepted.size())
+                                .concatMap(j -> insertBulkItem(accepted.get(j), requests.get(accepted.get(j)),
+                                        hashes.get(j), results)))
+                        .then(Mono.fromCallable(() -> {
+                            BulkCreateUsersResponse response = BulkUserResults.response(results);
+                            log.atInfo().addKeyValue("created", response.getCreated())
+                                    .addKeyValue("failed", response.getFailed())
+                                    .log("Cadastro em massa concluído");
+                            return response;
+                        }));
+            });
+        });
+    }
+
+    @Override
+    public Mono<UserDTO> getUserById(Long id) {
+        log.atDebug().addKeyValue("userId", id).log("Buscando usuário");
+
+        return userRepository.findDTOById(id)
+                .switchIfEmpty(Mono.error(() -> {
+                    log.atDebug().addKeyValue("userId", id).log("Usuário não encontrado");
+                    return new UserNotFoundException("Usuário não encontrado");
+                }));
+    }
+
+    @Override
+    public Mono<UserVersion> getUserVersion(Long id) {
+        return userRepository.findVersionById(id)
+                .switchIfEmpty(Mono.error(() -> {
+                    log.atDebug().addKeyValue("userId", id).log("Usuário não encontrado");
+                    return new UserNotFoundException("Usuário não encontrado");
+                }));
+    }
+
+    @Override
+    public Mono<UserCollectionVersion> getUsersVersion() {
+        return userRepository.findCollectionVersion();
+    }
+
+    @Override
+    public Mono<User> getUserByEmail(String email) {
+        log.debug("Buscando usuário por email");
+
+        return userRepository.findByNormalizedEmail(User.normalizeEmail(email))
+                .switchIfEmpty(Mono.error(() -> {
+                    log.debug("Usuário não encontrado por email");
+                    return new UserNotFoundException("Usuário não encontrado");
+                }));
+    }
+
+    @Override
+    public Mono<UserPage> getUsers(int page, Integer size) {
+        return Mono.defer(() -> {
+            int pageSize = resolvePageSize(size);
+            PageNumbers.check(page, pageSize);
+            log.atDebug().addKeyValue("page", page).addKeyValue("size", pageSize).log("Buscando usuários");
+
+            // Busca um registro a mais para saber se existe próxima página
+            return userRepository.findDTOs((long) page * pageSize, pageSize + 1)
+                    .collectList()
+                    .map(users -> {
+                        boolean hasNext = users.size() > pageSize;
+                        return UserPage.builder()
+                                .content(hasNext ? users.subList(0, pageSize) : users)
+                                .size(pageSize)
+                                .nextPage(hasNext ? page + 1 : null)
+                                .build();
+                    });
+        });
+    }
+
+    @Override
+    public Mono<UserPage> getUsersAfter(String cursor, Integer size) {
+        return Mono.defer(() -> {
+            int pageSize = resolvePageSize(size);
+            long lastId = cursor == null ? 0L : PageCursors.decode(cursor);
+            log.atDebug().addKeyValue("afterId", lastId).addKeyValue("size", pageSize).log("Buscando usuários");
+
+            // Busca um registro a mais para saber se existe próxima página
+            return userRepository.findDTOsByIdGreaterThan(lastId, pageSize + 1)
+                    .collectList()
+                    .map(users -> {
+                        boolean hasNext = users.size() > pageSize;
+                        List<UserDTO> pageContent = hasNext ? users.subList(0, pageSize) : users;
+                        return UserPage.builder()
+                                .content(pageContent)
+                                .size(pageSize)
+                                .nextCursor(hasNext ? PageCursors.encode(pageContent.get(pageSize - 1).getId()) : null)
+                                .build();
+                    });
+        });
+    }
+
+    @Override
+    public Flux<UserDTO> exportUsers() {
+        log.debug("Exportando todos os usuários");
+
+        return userRepository.streamAllDTOs();
+    }
+
+    @Override
+    public Mono<UserDTO> updateUser(Long id, CreateUserRequest request, Long expectedVersion) {
+        log.atDebug().addKeyValue("userId", id).log("Atualizando usuário");
+
+        return findForUpdate(id, expectedVersion)
+                .flatMap(user -> encode(request.getPassword()).flatMap(hash -> {
+                    String previousEmail = user.getNormalizedEmail();
+
+                    user.setName(request.getName());
+                    user.setEmail(request.getEmail());
+                    user.setPassword(hash);
+
+                    return saveVersioned(user, previousEmail, expectedVersion);
+                }));
+    }
+
+    @Override
+    public Mono<UserDTO> patchUser(Long id, UpdateUserRequest request, Long expectedVersion) {
+        log.atDebug().addKeyValue("userId", id).log("Atualizando usuário parcialmente");
+
+        return findForUpdate(id, expectedVersion).flatMap(user -> {
+            String previousEmail = user.getNormalizedEmail();
+
+            if (request.getName() != null) {
+                user.setName(request.getName());
+            }
+            if (request.getEmail() != null) {
+                user.setEmail(request.getEmail());
+            }
+            // Sem nova senha, o hash atual é mantido e nenhum BCrypt é executado
+            Mono<String> password = request.getPassword() != null
+                    ? encode(request.getPassword())
+                    : Mono.just(user.getPassword());
+
+            return password.flatMap(hash -> {
+                user.setPassword(hash);
+                return saveVersioned(user, previousEmail, expectedVersion);
+            });
+        });
+    }
+
+    @Override
+    public Mono<Void> updatePasswordHash(Long id, String encodedPassword) {
+        log.atDebug().addKeyValue("userId", id).log("Atualizando hash de senha");
+
+        return userRepository.updatePassword(id, encodedPassword).then();
+    }
+
+    @Override
+    public Mono<Void> deleteUser(Long id) {
+        log.atDebug().addKeyValue("userId", id).log("Deletando usuário");
+
+        return userRepository.deleteById(id)
+                .flatMap(deleted -> {
+                    if (deleted == 0) {
+                        log.atDebug().addKeyValue("userId", id).log("Usuário não encontrado para deleção");
+                        return Mono.error(new UserNotFoundException("Usuário não encontrado"));
+                    }
+                    emailExistenceFilter.markStale();
+                    log.atDebug().addKeyValue("userId", id).log("Usuário deletado");
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * Carrega um usuário para atualização, verificando a versão esperada
+     * antes de qualquer hashing de senha, que é a parte cara da atualização.
+     *
+     * @param id o ID do usuário
+     * @param expectedVersion a versão esperada, ou null para não exigir uma versão
+     * @return Mono com o usuário, ou erro UserNotFoundException ou UserVersionMismatchException
+     */
+    private Mono<User> findForUpdate(Long id, Long expectedVersion) {
+        return userRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> {
+                    log.atDebug().addKeyValue("userId", id).log("Usuário não encontrado para atualização");
+                    return new UserNotFoundException("Usuário não encontrado");
+                }))
+                .filter(user -> expectedVersion == null || expectedVersion.equals(user.getVersion()))
+                .switchIfEmpty(Mono.error(() -> {
+                    log.atDebug().addKeyValue("userId", id).log("Versão do usuário diferente da esperada");
+                    return new UserVersionMismatchException("O usuário foi alterado por outra requisição");
+                }));
+    }
+
+    /**
+     * Grava as alterações de um usuário com o UPDATE versionado do repositório.
+     *
+     * @param user o usuário alterado, com a versão lida
+     * @param previousEmail o email normalizado antes da alteração
+     * @param expectedVersion a versão esperada pelo cliente, ou null
+     * @return Mono com o usuário atualizado como DTO
+     */
+    private Mono<UserDTO> saveVersioned(User user, String previousEmail, Long expectedVersion) {
+        return userRepository.update(user)
+                .onErrorMap(DataIntegrityViolationException.class, this::translateEmailConflict)
+                .onErrorMap(OptimisticLockingFailureException.class, e -> expectedVersion != null
+                        ? new UserVersionMismatchException("O usuário foi alterado por outra requisição", e)
+                        : e)
+                .doOnNext(updatedUser -> {
+                    emailExistenceFilter.put(updatedUser.getNormalizedEmail());
+                    if (!updatedUser.getNormalizedEmail().equals(previousEmail)) {
+                        emailExistenceFilter.markStale();
+                    }
+                    log.atDebug().addKeyValue("userId", updatedUser.getId()).log("Usuário atualizado");
+                })
+                .map(UserDTO::fromEntity);
+    }
+
+    /**
+     * Insere um item do cadastro em massa e registra seu resultado.
+     * Violações do email viram DUPLICATE e as demais, FAILED, como em UserServiceImpl.
+     *
+     * @param index a posição do item na requisição
+     * @param request o item da requisição
+     * @param hash o hash da senha do item
+     * @param results o array de resultados a ser preenchido
+     * @return Mono vazio, concluído após a inserção
+     */
+    private Mono<Void> insertBulkItem(int index, CreateUserRequest request, String hash, BulkUserResult[] results) {
+        return userRepository.insert(User.builder()
+                        .name(request.getName())
+                        .email(request.getEmail())
+                        .password(hash)
+                        .active(true)
+                        .build())
+                .doOnNext(user -> {
+                    emailExistenceFilter.put(user.getNormalizedEmail());
+                    results[index] = BulkUserResults.success(index, user);
+                })
+                .onErrorResume(DataIntegrityViolationException.class, e -> {
+                    if (translateEmailConflict(e) instanceof EmailAlreadyExistsException) {
+                        results[index] = BulkUserResults.failure(index, request,
+                                BulkUserResult.Status.DUPLICATE, "Email já cadastrado no sistema");
+                    } else {
+                        log.warn("Falha de integridade ao inserir usuário na posição {}", index, e);
+                        results[index] = BulkUserResults.failure(index, request,
+                                BulkUserResult.Status.FAILED, "Violação de integridade ao inserir o usuário");
+                    }
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    /**
+     * Gera o hash da senha no pool dedicado, sem bloquear a thread chamadora.
+     *
+     * @param rawPassword a senha em texto claro
+     * @return Mono com o hash da senha, ou erro PasswordHashingUnavailableException
+     */
+    private Mono<String> encode(String rawPassword) {
+        return Mono.fromFuture(() -> passwordHashingService.encodeAsync(rawPassword));
+    }
+
+    /**
+     * Aplica o tamanho padrão e o limite máximo ao tamanho de página solicitado.
+     *
+     * @param size o tamanho solicitado (pode ser nulo)
+     * @return o tamanho efetivo da página
+     */
+    private int resolvePageSize(Integer size) {
+        if (size == null || size < 1) {
+            return Math.min(defaultPageSize, maxPageSize);
+        }
+        return Math.min(size, maxPageSize);
+    }
+
+    /**
+     * Traduz a violação de uma das restrições de unicidade do email em EmailAlreadyExistsException.
+     * O R2DBC não expõe o nome da restrição, que é procurado na mensagem do banco.
+     *
+     * @param e a exceção de violação de integridade
+     * @return a exceção traduzida, ou a original se a restrição violada não for a do email
+     */
+    private Throwable translateEmailConflict(DataIntegrityViolationException e) {
+        String message = String.valueOf(e.getMostSpecificCause().getMessage()).toLowerCase();
+        if (message.contains(User.EMAIL_UNIQUE_CONSTRAINT) || message.contains(User.NORMALIZED_EMAIL_UNIQUE_CONSTRAINT)) {
+            log.debug("Email já cadastrado");
+            return new EmailAlreadyExistsException("Email já cadastrado no sistema", e);
+        }
+        return e;
+    }
+}
@@ -0,0 +1,60 @@
+package com.faculdade.service;
+
+import com.faculdade.config.CacheConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Componente responsável por invalidar as entradas de cache de um usuário.
+ * A invalidação é feita imediatamente e repetida após o commit da transação,
+ * evitando que uma leitura concorrente recoloque no cache o valor antigo.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserCacheEvictor {
+
+    private final CacheManager cacheManager;
+
+    /**
+     * Invalida as entradas de cache de um usuário.
+     *
+     * @param id o ID do usuário
+     */
+    public void evict(Long id) {
+        doEvict(id);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    doEvict(id);
+                }
+            });
+        }
+    }
+
+    /**
+     * Remove as entradas do usuário dos caches por ID (dados e versão).
+     *
+     * @param id o ID do usuário
+     */
+    private void doEvict(Long id) {
+        if (id == null) {
+            return;
+        }
+
+        Cache usersById = cacheManager.getCache(CacheConfig.USERS_BY_ID);
+        if (usersById != null) {
+            usersById.evict(id);
+        }
+
+        Cache userVersionsById = cacheManager.getCache(CacheConfig.USER_VERSIONS_BY_ID);
+        if (userVersionsById != null) {
+            userVersionsById.evict(id);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.faculdade.service;
+
+import com.faculdade.domain.User;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Listener de eventos do Hibernate que mantém o EmailExistenceFilter atualizado a cada escrita de usuário,
+ * inclusive cadastros em massa e escritas feitas diretamente pelo repositório.
+ * Registrado por UserEmailFilterConfig, sem que a entidade User dependa da camada de serviço.
+ */
+public class UserEmailFilterListener
+        implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private final EmailExistenceFilter emailExistenceFilter;
+
+    public UserEmailFilterListener(EmailExistenceFilter emailExistenceFilter) {
+        this.emailExistenceFilter = emailExistenceFilter;
+    }
+
+    /**
+     * Registra o email normalizado do usuário inserido.
+     *
+     * @param event o evento de inserção
+     */
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof User user) {
+            emailExistenceFilter.put(user.getNormalizedEmail());
+        }
+    }
+
+    /**
+     * Registra o email normalizado atual do usuário atualizado.
+     * O email anterior, quando alterado, é marcado como obsoleto por UserServiceImpl.
+     *
+     * @param event o evento de atualização
+     */
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getEntity() instanceof User user) {
+            emailExistenceFilter.put(user.getNormalizedEmail());
+        }
+    }
+
+    /**
+     * Marca como obsoleto o email do usuário removido.
+     *
+     * @param event o evento de remoção
+     */
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof User) {
+            emailExistenceFilter.markStale();
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+}
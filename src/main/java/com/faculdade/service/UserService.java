@@ -1,10 +1,16 @@
 package com.faculdade.service;
 
 import com.faculdade.domain.User;
+import com.faculdade.dto.BulkCreateUsersResponse;
 import com.faculdade.dto.CreateUserRequest;
+import com.faculdade.dto.UpdateUserRequest;
+import com.faculdade.dto.UserCollectionVersion;
 import com.faculdade.dto.UserDTO;
+import com.faculdade.dto.UserPage;
+import com.faculdade.dto.UserVersion;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Interface de serviço para operações de usuário.
@@ -21,6 +27,16 @@ public interface UserService {
      */
     UserDTO createUser(CreateUserRequest request);
 
+    /**
+     * Cria vários usuários de uma vez.
+     * Cada item é validado e cadastrado de forma independente: falhas em um item
+     * (dados inválidos ou email já existente) não desfazem os demais.
+     *
+     * @param requests dados dos novos usuários
+     * @return o resultado de cada item, na ordem da requisição
+     */
+    BulkCreateUsersResponse createUsers(List<CreateUserRequest> requests);
+
     /**
      * Busca um usuário pelo ID.
      *
@@ -30,6 +46,23 @@ public interface UserService {
      */
     UserDTO getUserById(Long id);
 
+    /**
+     * Obtém a versão de um usuário, usada como validador em requisições condicionais.
+     * Não monta o DTO do usuário.
+     *
+     * @param id o ID do usuário
+     * @return a versão e o timestamp da última alteração
+     * @throws com.faculdade.exception.UserNotFoundException se o usuário não existir
+     */
+    UserVersion getUserVersion(Long id);
+
+    /**
+     * Obtém a versão da coleção de usuários, usada como validador da listagem.
+     *
+     * @return a versão atual da coleção
+     */
+    UserCollectionVersion getUsersVersion();
+
     /**
      * Busca um usuário pelo email.
      *
@@ -47,14 +80,74 @@ public interface UserService {
     List<UserDTO> getAllUsers();
 
     /**
-     * Atualiza um usuário existente.
+     * Lista usuários por página (paginação por offset).
+     *
+     * @param page o número da página, começando em 0
+     * @param size o tamanho da página (limitado ao máximo configurado)
+     * @return a página de usuários
+     * @throws com.faculdade.exception.InvalidPageException se a página for negativa ou grande demais
+     */
+    UserPage getUsers(int page, Integer size);
+
+    /**
+     * Lista usuários a partir de um cursor (paginação keyset sobre o ID).
+     *
+     * @param cursor o cursor opaco retornado pela página anterior, ou null para a primeira página
+     * @param size o tamanho da página (limitado ao máximo configurado)
+     * @return a página de usuários
+     * @throws com.faculdade.exception.InvalidCursorException se o cursor for inválido
+     */
+    UserPage getUsersAfter(String cursor, Integer size);
+
+    /**
+     * Percorre todos os usuários em ordem de ID, entregando um de cada vez ao consumidor.
+     * O uso de memória é constante, independente do número de usuários, e nenhuma conexão JDBC
+     * fica retida enquanto o consumidor processa um lote.
+     *
+     * @param consumer o consumidor que recebe cada usuário como DTO
+     */
+    void exportUsers(Consumer<UserDTO> consumer);
+
+    /**
+     * Atualiza um usuário existente com controle otimista de concorrência.
+     * Se outra requisição alterar o usuário entre a leitura e a escrita, a atualização é rejeitada
+     * em vez de sobrescrever a alteração concorrente.
      *
      * @param id o ID do usuário
      * @param request dados atualizados
+     * @param expectedVersion a versão que o cliente leu (header If-Match), ou null para não exigir uma versão
      * @return o usuário atualizado como DTO
      * @throws com.faculdade.exception.UserNotFoundException se o usuário não existir
+     * @throws com.faculdade.exception.UserVersionMismatchException se a versão atual não for a esperada
+     * @throws org.springframework.dao.OptimisticLockingFailureException se, sem versão esperada,
+     *         o usuário for alterado concorrentemente
+     */
+    UserDTO updateUser(Long id, CreateUserRequest request, Long expectedVersion);
+
+    /**
+     * Atualiza apenas os campos informados de um usuário, com o mesmo controle de versão de updateUser.
+     * A senha só é recalculada (BCrypt) quando uma nova senha é informada.
+     *
+     * @param id o ID do usuário
+     * @param request os campos a alterar; campos nulos são mantidos
+     * @param expectedVersion a versão que o cliente leu (header If-Match), ou null para não exigir uma versão
+     * @return o usuário atualizado como DTO
+     * @throws com.faculdade.exception.UserNotFoundException se o usuário não existir
+     * @throws com.faculdade.exception.UserVersionMismatchException se a versão atual não for a esperada
+     * @throws org.springframework.dao.OptimisticLockingFailureException se, sem versão esperada,
+     *         o usuário for alterado concorrentemente
+     */
+    UserDTO patchUser(Long id, UpdateUserRequest request, Long expectedVersion);
+
+    /**
+     * Substitui o hash da senha de um usuário por um hash já calculado.
+     * Utilizado para atualizar hashes com custo diferente do configurado.
+     *
+     * @param id o ID do usuário
+     * @param encodedPassword o novo hash da senha
+     * @throws com.faculdade.exception.UserNotFoundException se o usuário não existir
      */
-    UserDTO updateUser(Long id, CreateUserRequest request);
+    void updatePasswordHash(Long id, String encodedPassword);
 
     /**
      * Deleta um usuário.
@@ -1,81 +1,193 @@
 package com.faculdade.service;
 
 import com.faculdade.domain.User;
+import com.faculdade.dto.BulkCreateUsersResponse;
+import com.faculdade.dto.BulkUserResult;
 import com.faculdade.dto.CreateUserRequest;
+import com.faculdade.dto.UpdateUserRequest;
+import com.faculdade.dto.UserCollectionVersion;
 import com.faculdade.dto.UserDTO;
+import com.faculdade.dto.UserPage;
+import com.faculdade.dto.UserVersion;
 import com.faculdade.exception.EmailAlreadyExistsException;
 import com.faculdade.exception.UserNotFoundException;
+import com.faculdade.exception.UserVersionMismatchException;
 import com.faculdade.repository.UserRepository;
+import com.faculdade.security.PasswordHashingService;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
  * Implementação do serviço de usuários.
  * Encapsula a lógica de negócio relacionada a usuários.
  * Segue os princípios SOLID: Single Responsibility, Dependency Inversion.
+ * Cada método público é medido pelo timer user.service (tags class e method).
  */
 @Service
+@Timed("user.service")
 @RequiredArgsConstructor
 @Slf4j
 @Transactional
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final UserCacheEvictor userCacheEvictor;
+    private final EmailExistenceFilter emailExistenceFilter;
+    private final Validator validator;
+
+    @Value("${api.users.page.default-size:20}")
+    private int defaultPageSize;
+
+    @Value("${api.users.page.max-size:100}")
+    private int maxPageSize;
+
+    @Value("${api.users.export.batch-size:500}")
+    private int exportBatchSize;
+
+    @Value("${api.users.bulk.chunk-size:500}")
+    private int bulkChunkSize;
+
+    @Value("${api.users.bulk.max-size:1000}")
+    private int bulkMaxSize;
 
     @Override
     public UserDTO createUser(CreateUserRequest request) {
-        log.info("Criando novo usuário com email: {}", request.getEmail());
-
-        // Verifica se o email já existe
-        if (userRepository.existsByEmail(request.getEmail())) {
-            log.warn("Tentativa de criar usuário com email duplicado: {}", request.getEmail());
-            throw new EmailAlreadyExistsException("Email já cadastrado no sistema");
-        }
+        log.debug("Criando novo usuário");
 
         // Cria a entidade User
         User user = User.builder()
                 .name(request.getName())
                 .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(passwordHashingService.encode(request.getPassword()))
                 .active(true)
                 .build();
 
-        // Persiste no banco de dados
-        User savedUser = userRepository.save(user);
-        log.info("Usuário criado com sucesso. ID: {}", savedUser.getId());
+        // Persiste no banco de dados; a restrição de unicidade garante o email único
+        User savedUser = saveUnique(user);
+        log.atDebug().addKeyValue("userId", savedUser.getId()).log("Usuário criado");
 
-        return convertToDTO(savedUser);
+        return UserDTO.fromEntity(savedUser);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkCreateUsersResponse createUsers(List<CreateUserRequest> requests) {
+        log.atDebug().addKeyValue("count", requests.size()).log("Criando usuários em massa");
+
+        BulkUserResults.checkSize(requests.size(), bulkMaxSize);
+
+        BulkUserResult[] results = new BulkUserResult[requests.size()];
+        List<Integer> candidates = BulkUserResults.validate(requests, validator, results);
+
+        // Consulta o banco apenas para os emails que o filtro indica como possivelmente cadastrados
+        Set<String> possibleDuplicates = new HashSet<>();
+        for (int i : candidates) {
+            String email = User.normalizeEmail(requests.get(i).getEmail());
+            if (emailExistenceFilter.mightContain(email)) {
+                possibleDuplicates.add(email);
+            }
+        }
+        Set<String> existingEmails = possibleDuplicates.isEmpty()
+                ? Set.of()
+                : userRepository.findExistingNormalizedEmails(possibleDuplicates);
+        for (int i = possibleDuplicates.size() - existingEmails.size(); i > 0; i--) {
+            emailExistenceFilter.recordFalsePositive();
+        }
+
+        List<Integer> accepted = new ArrayList<>(candidates.size());
+        for (int i : candidates) {
+            if (existingEmails.contains(User.normalizeEmail(requests.get(i).getEmail()))) {
+                results[i] = BulkUserResults.failure(i, requests.get(i),
+                        BulkUserResult.Status.DUPLICATE, "Email já cadastrado no sistema");
+            } else {
+                accepted.add(i);
+            }
+        }
+
+        // Gera os hashes em paralelo no pool de hashing
+        List<String> hashes = passwordHashingService.encodeAll(accepted.stream()
+                .map(i -> requests.get(i).getPassword())
+                .collect(Collectors.toList()));
+
+        // Insere em blocos, cada um em sua própria transação
+        for (int start = 0; start < accepted.size(); start += bulkChunkSize) {
+            List<Integer> chunk = accepted.subList(start, Math.min(start + bulkChunkSize, accepted.size()));
+            List<User> users = new ArrayList<>(chunk.size());
+            for (int j = 0; j < chunk.size(); j++) {
+                CreateUserRequest request = requests.get(chunk.get(j));
+                users.add(User.builder()
+                        .name(request.getName())
+                        .email(request.getEmail())
+                        .password(hashes.get(start + j))
+                        .active(true)
+                        .build());
+            }
+            insertChunk(chunk, users, requests, results);
+        }
+
+        BulkCreateUsersResponse response = BulkUserResults.response(results);
+        log.atInfo().addKeyValue("created", response.getCreated()).addKeyValue("failed", response.getFailed())
+                .log("Cadastro em massa concluído");
+        return response;
     }
 
     @Override
     @Transactional(readOnly = true)
     public UserDTO getUserById(Long id) {
-        log.info("Buscando usuário com ID: {}", id);
+        log.atDebug().addKeyValue("userId", id).log("Buscando usuário");
 
-        User user = userRepository.findById(id)
+        return userRepository.findDTOById(id)
                 .orElseThrow(() -> {
-                    log.warn("Usuário não encontrado com ID: {}", id);
+                    log.atDebug().addKeyValue("userId", id).log("Usuário não encontrado");
                     return new UserNotFoundException("Usuário não encontrado");
                 });
+    }
 
-        return convertToDTO(user);
+    @Override
+    @Transactional(readOnly = true)
+    public UserVersion getUserVersion(Long id) {
+        return userRepository.findVersionById(id)
+                .orElseThrow(() -> {
+                    log.atDebug().addKeyValue("userId", id).log("Usuário não encontrado");
+                    return new UserNotFoundException("Usuário não encontrado");
+                });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public UserCollectionVersion getUsersVersion() {
+        return userRepository.findCollectionVersion();
     }
 
     @Override
     @Transactional(readOnly = true)
     public User getUserByEmail(String email) {
-        log.info("Buscando usuário com email: {}", email);
+        log.debug("Buscando usuário por email");
 
-        return userRepository.findByEmail(email)
+        return userRepository.findByNormalizedEmail(User.normalizeEmail(email))
                 .orElseThrow(() -> {
-                    log.warn("Usuário não encontrado com email: {}", email);
+                    log.debug("Usuário não encontrado por email");
                     return new UserNotFoundException("Usuário não encontrado");
                 });
     }
@@ -83,70 +195,274 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional(readOnly = true)
     public List<UserDTO> getAllUsers() {
-        log.info("Buscando todos os usuários");
+        log.debug("Buscando todos os usuários");
 
-        return userRepository.findAll()
-                .stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return userRepository.findAllDTOs();
     }
 
     @Override
-    public UserDTO updateUser(Long id, CreateUserRequest request) {
-        log.info("Atualizando usuário com ID: {}", id);
+    @Transactional(readOnly = true)
+    public UserPage getUsers(int page, Integer size) {
+        int pageSize = resolvePageSize(size);
+        PageNumbers.check(page, pageSize);
+        log.atDebug().addKeyValue("page", page).addKeyValue("size", pageSize).log("Buscando usuários");
 
-        User user = userRepository.findById(id)
-                .orElseThrow(() -> {
-                    log.warn("Usuário não encontrado para atualização. ID: {}", id);
-                    return new UserNotFoundException("Usuário não encontrado");
-                });
+        Slice<UserDTO> slice = userRepository.findDTOsBy(PageRequest.of(page, pageSize, Sort.by("id")));
 
-        // Verifica se o novo email já existe (se foi alterado)
-        if (!user.getEmail().equals(request.getEmail()) && 
-            userRepository.existsByEmail(request.getEmail())) {
-            log.warn("Email já cadastrado durante atualização: {}", request.getEmail());
-            throw new EmailAlreadyExistsException("Email já cadastrado no sistema");
-        }
+        return UserPage.builder()
+                .content(slice.getContent())
+                .size(pageSize)
+                .nextPage(slice.hasNext() ? slice.getNumber() + 1 : null)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public UserPage getUsersAfter(String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        long lastId = cursor == null ? 0L : PageCursors.decode(cursor);
+        log.atDebug().addKeyValue("afterId", lastId).addKeyValue("size", pageSize).log("Buscando usuários");
+
+        // Busca um registro a mais para saber se existe próxima página
+        List<UserDTO> users = userRepository.findDTOsByIdGreaterThan(lastId, Limit.of(pageSize + 1));
+        boolean hasNext = users.size() > pageSize;
+        List<UserDTO> pageContent = hasNext ? users.subList(0, pageSize) : users;
+
+        return UserPage.builder()
+                .content(pageContent)
+                .size(pageSize)
+                .nextCursor(hasNext ? PageCursors.encode(pageContent.get(pageSize - 1).getId()) : null)
+                .build();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void exportUsers(Consumer<UserDTO> consumer) {
+        log.debug("Exportando todos os usuários");
+
+        // Lê em lotes keyset, cada um em sua própria transação: a conexão JDBC fica com o pool
+        // enquanto o lote é escrito para o cliente, por mais lento que ele seja
+        long lastId = 0L;
+        List<UserDTO> batch;
+        do {
+            batch = userRepository.findDTOBatchAfter(lastId, Limit.of(exportBatchSize));
+            batch.forEach(consumer);
+            if (!batch.isEmpty()) {
+                lastId = batch.get(batch.size() - 1).getId();
+            }
+        } while (batch.size() == exportBatchSize);
+    }
+
+    @Override
+    public UserDTO updateUser(Long id, CreateUserRequest request, Long expectedVersion) {
+        log.atDebug().addKeyValue("userId", id).log("Atualizando usuário");
+
+        User user = findForUpdate(id, expectedVersion);
+        String previousEmail = user.getEmail();
 
         user.setName(request.getName());
         user.setEmail(request.getEmail());
-        user.setPassword(passwordEncoder.encode(request.getPassword()));
+        user.setPassword(passwordHashingService.encode(request.getPassword()));
 
-        User updatedUser = userRepository.save(user);
-        log.info("Usuário atualizado com sucesso. ID: {}", updatedUser.getId());
+        return saveVersioned(user, previousEmail, expectedVersion);
+    }
+
+    @Override
+    public UserDTO patchUser(Long id, UpdateUserRequest request, Long expectedVersion) {
+        log.atDebug().addKeyValue("userId", id).log("Atualizando usuário parcialmente");
 
-        return convertToDTO(updatedUser);
+        User user = findForUpdate(id, expectedVersion);
+        String previousEmail = user.getEmail();
+
+        if (request.getName() != null) {
+            user.setName(request.getName());
+        }
+        if (request.getEmail() != null) {
+            user.setEmail(request.getEmail());
+        }
+        // Sem nova senha, o hash atual é mantido e nenhum BCrypt é executado
+        if (request.getPassword() != null) {
+            user.setPassword(passwordHashingService.encode(request.getPassword()));
+        }
+
+        return saveVersioned(user, previousEmail, expectedVersion);
+    }
+
+    @Override
+    public void updatePasswordHash(Long id, String encodedPassword) {
+        log.atDebug().addKeyValue("userId", id).log("Atualizando hash de senha");
+
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> {
+                    log.atDebug().addKeyValue("userId", id).log("Usuário não encontrado para atualização de hash");
+                    return new UserNotFoundException("Usuário não encontrado");
+                });
+
+        user.setPassword(encodedPassword);
+        userRepository.save(user);
+        userCacheEvictor.evict(id);
     }
 
     @Override
     public void deleteUser(Long id) {
-        log.info("Deletando usuário com ID: {}", id);
+        log.atDebug().addKeyValue("userId", id).log("Deletando usuário");
 
         User user = userRepository.findById(id)
                 .orElseThrow(() -> {
-                    log.warn("Usuário não encontrado para deleção. ID: {}", id);
+                    log.atDebug().addKeyValue("userId", id).log("Usuário não encontrado para deleção");
                     return new UserNotFoundException("Usuário não encontrado");
                 });
 
         userRepository.delete(user);
-        log.info("Usuário deletado com sucesso. ID: {}", id);
+        userCacheEvictor.evict(id);
+        log.atDebug().addKeyValue("userId", id).log("Usuário deletado");
     }
 
     /**
-     * Converte uma entidade User para UserDTO.
-     * Não expõe dados sensíveis como senha.
+     * Aplica o tamanho padrão e o limite máximo ao tamanho de página solicitado.
      *
-     * @param user a entidade User
-     * @return o DTO do usuário
+     * @param size o tamanho solicitado (pode ser nulo)
+     * @return o tamanho efetivo da página
      */
-    private UserDTO convertToDTO(User user) {
-        return UserDTO.builder()
-                .id(user.getId())
-                .name(user.getName())
-                .email(user.getEmail())
-                .active(user.getActive())
-                .createdAt(user.getCreatedAt())
-                .build();
+    private int resolvePageSize(Integer size) {
+        if (size == null || size < 1) {
+            return Math.min(defaultPageSize, maxPageSize);
+        }
+        return Math.min(size, maxPageSize);
+    }
+
+    /**
+     * Carrega um usuário para atualização, verificando a versão esperada.
+     * A verificação é feita antes de qualquer hashing de senha, que é a parte cara da atualização.
+     *
+     * @param id o ID do usuário
+     * @param expectedVersion a versão esperada, ou null para não exigir uma versão
+     * @return o usuário gerenciado pelo contexto de persistência
+     */
+    private User findForUpdate(Long id, Long expectedVersion) {
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> {
+                    log.atDebug().addKeyValue("userId", id).log("Usuário não encontrado para atualização");
+                    return new UserNotFoundException("Usuário não encontrado");
+                });
+
+        if (expectedVersion != null && !expectedVersion.equals(user.getVersion())) {
+            log.atDebug().addKeyValue("userId", id).log("Versão do usuário diferente da esperada");
+            throw new UserVersionMismatchException("O usuário foi alterado por outra requisição");
+        }
+        return user;
     }
-}
 
+    /**
+     * Grava as alterações de um usuário e invalida seus caches.
+     * O UPDATE só é aplicado se a versão no banco ainda for a lida em findForUpdate.
+     *
+     * @param user o usuário alterado
+     * @param previousEmail o email antes da alteração
+     * @param expectedVersion a versão esperada pelo cliente, ou null
+     * @return o usuário atualizado como DTO
+     */
+    private UserDTO saveVersioned(User user, String previousEmail, Long expectedVersion) {
+        User updatedUser;
+        try {
+            updatedUser = saveUnique(user);
+        } catch (OptimisticLockingFailureException e) {
+            log.atDebug().addKeyValue("userId", user.getId()).log("Usuário alterado concorrentemente");
+            if (expectedVersion != null) {
+                throw new UserVersionMismatchException("O usuário foi alterado por outra requisição", e);
+            }
+            throw e;
+        }
+
+        userCacheEvictor.evict(updatedUser.getId());
+        if (!User.normalizeEmail(previousEmail).equals(updatedUser.getNormalizedEmail())) {
+            emailExistenceFilter.markStale();
+        }
+        log.atDebug().addKeyValue("userId", updatedUser.getId()).log("Usuário atualizado");
+
+        return UserDTO.fromEntity(updatedUser);
+    }
+
+    /**
+     * Persiste o usuário imediatamente, usando a restrição de unicidade do banco
+     * como fonte de verdade para o email, sem consulta prévia.
+     *
+     * @param user o usuário a ser persistido
+     * @return o usuário persistido
+     * @throws EmailAlreadyExistsException se o email já estiver cadastrado
+     */
+    private User saveUnique(User user) {
+        try {
+            return userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            if (isEmailConstraintViolation(e)) {
+                log.debug("Email já cadastrado");
+                throw new EmailAlreadyExistsException("Email já cadastrado no sistema", e);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Verifica se a violação de integridade foi causada por uma das restrições de unicidade do email.
+     *
+     * @param e a exceção de violação de integridade
+     * @return true se a restrição violada é a do email
+     */
+    private static boolean isEmailConstraintViolation(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                String constraintName = violation.getConstraintName().toLowerCase();
+                return constraintName.contains(User.EMAIL_UNIQUE_CONSTRAINT)
+                        || constraintName.contains(User.NORMALIZED_EMAIL_UNIQUE_CONSTRAINT);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Insere um bloco de usuários em lote. Se o lote falhar por violação de restrição
+     * (email cadastrado concorrentemente), insere os usuários um a um para isolar as falhas:
+     * violações do email viram DUPLICATE e as demais, FAILED.
+     *
+     * @param indexes as posições dos usuários na requisição
+     * @param users os usuários a serem inseridos
+     * @param requests os itens da requisição
+     * @param results o array de resultados a ser preenchido
+     */
+    private void insertChunk(List<Integer> indexes, List<User> users,
+                             List<CreateUserRequest> requests, BulkUserResult[] results) {
+        try {
+            userRepository.insertAll(users);
+            for (int j = 0; j < users.size(); j++) {
+                results[indexes.get(j)] = BulkUserResults.success(indexes.get(j), users.get(j));
+            }
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Falha ao inserir lote de {} usuários, inserindo individualmente", users.size());
+
+            for (int j = 0; j < users.size(); j++) {
+                int index = indexes.get(j);
+                User user = users.get(j);
+                // ID, versão e datas atribuídos no lote desfeito não são reaproveitados,
+                // para que a entidade seja persistida como nova em vez de passar por merge
+                user.setId(null);
+                user.setVersion(null);
+                user.setCreatedAt(null);
+                user.setUpdatedAt(null);
+                try {
+                    userRepository.insertAll(List.of(user));
+                    results[index] = BulkUserResults.success(index, user);
+                } catch (DataIntegrityViolationException ex) {
+                    if (isEmailConstraintViolation(ex)) {
+                        results[index] = BulkUserResults.failure(index, requests.get(index),
+                                BulkUserResult.Status.DUPLICATE, "Email já cadastrado no sistema");
+                    } else {
+                        log.warn("Falha de integridade ao inserir usuário na posição {}", index, ex);
+                        results[index] = BulkUserResults.failure(index, requests.get(index),
+                                BulkUserResult.Status.FAILED, "Violação de integridade ao inserir o usuário");
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.faculdade.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.faculdade.filter.JwtAuthenticationFilter;
+import com.faculdade.security.JwtTokenProvider;
+import com.faculdade.security.VerifiedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH do JwtAuthenticationFilter, com uma cadeia de filtros vazia.
+ * Compara requisições sem token, com token já presente no cache de tokens verificados
+ * e com verificação da assinatura a cada requisição (cache desabilitado).
+ * Cada operação inclui a criação da requisição e da resposta simuladas.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "sua_chave_secreta_super_segura_com_minimo_256_bits_para_HS256";
+    private static final long EXPIRATION = 86400000L;
+    private static final FilterChain EMPTY_CHAIN = (request, response) -> { };
+
+    private JwtAuthenticationFilter cachedFilter;
+    private JwtAuthenticationFilter uncachedFilter;
+    private String authHeader;
+
+    @Setup
+    public void setUp() {
+        ((Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET, EXPIRATION, new SimpleMeterRegistry());
+        cachedFilter = new JwtAuthenticationFilter(jwtTokenProvider,
+                new VerifiedTokenCache(true, 10000, new SimpleMeterRegistry()), new SimpleMeterRegistry());
+        uncachedFilter = new JwtAuthenticationFilter(jwtTokenProvider,
+                new VerifiedTokenCache(false, 10000, new SimpleMeterRegistry()), new SimpleMeterRegistry());
+        authHeader = "Bearer " + jwtTokenProvider.generateToken("joao@example.com", 1L);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse withoutToken() throws Exception {
+        return filter(cachedFilter, null);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse cachedToken() throws Exception {
+        return filter(cachedFilter, authHeader);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse verifiedToken() throws Exception {
+        return filter(uncachedFilter, authHeader);
+    }
+
+    private static MockHttpServletResponse filter(JwtAuthenticationFilter filter, String authHeader) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/1");
+        if (authHeader != null) {
+            request.addHeader("Authorization", authHeader);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        try {
+            filter.doFilter(request, response, EMPTY_CHAIN);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(JwtAuthenticationFilterBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build();
+        new Runner(options).run();
+    }
+}
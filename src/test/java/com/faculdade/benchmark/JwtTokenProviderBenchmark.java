@@ -0,0 +1,86 @@
+package com.faculdade.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.faculdade.security.JwtTokenProvider;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH do JwtTokenProvider.
+ * Compara a chave e o parser compartilhados com a abordagem anterior,
+ * que derivava a chave HMAC e construía um parser novo a cada chamada.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "sua_chave_secreta_super_segura_com_minimo_256_bits_para_HS256";
+    private static final long EXPIRATION = 86400000L;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        // Isola o custo criptográfico do custo de escrita de logs no console
+        ((Logger) LoggerFactory.getLogger(JwtTokenProvider.class)).setLevel(Level.WARN);
+
+        jwtTokenProvider = new JwtTokenProvider(SECRET, EXPIRATION, new SimpleMeterRegistry());
+        token = jwtTokenProvider.generateToken("joao@example.com", 1L);
+    }
+
+    @Benchmark
+    public String generateTokenShared() {
+        return jwtTokenProvider.generateToken("joao@example.com", 1L);
+    }
+
+    @Benchmark
+    public String generateTokenPerCall() {
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        return Jwts.builder()
+                .subject("joao@example.com")
+                .claim("userId", 1L)
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + EXPIRATION))
+                .signWith(key, Jwts.SIG.HS256)
+                .compact();
+    }
+
+    @Benchmark
+    public boolean validateTokenShared() {
+        return jwtTokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public Object validateTokenPerCall() {
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        return Jwts.parser()
+                .verifyWith(key)
+                .build()
+                .parseSignedClaims(token);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(JwtTokenProviderBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,128 @@
+package com.faculdade.benchmark;
+
+import com.faculdade.ApiRestApplication;
+import com.faculdade.dto.CreateUserRequest;
+import com.faculdade.dto.UserDTO;
+import com.faculdade.exception.UserNotFoundException;
+import com.faculdade.security.JwtTokenProvider;
+import com.faculdade.service.UserService;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Benchmark JMH das respostas 404 de GET /api/users/{id}, passando pela cadeia de filtros completa (MockMvc).
+ * Mede o caminho de controle de fluxo com UserNotFoundException: consulta pelo ID inexistente,
+ * lançamento da exceção através das camadas do Spring e montagem do ErrorResponse.
+ * "found" serve de referência com um usuário existente.
+ * Com exceptions=stack, cada UserNotFoundException é relançada com uma causa que captura a pilha
+ * no mesmo ponto, reproduzindo o custo das exceções antes de deixarem de capturá-la; o aspecto
+ * que faz isso também envolve o UserService com exceptions=stackless, para que o seu custo
+ * apareça dos dois lados.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class NotFoundBenchmark {
+
+    private static final long MISSING_USER_ID = 999_999L;
+
+    @Param({"stackless", "stack"})
+    public String exceptions;
+
+    private ConfigurableApplicationContext context;
+    private MockMvc mockMvc;
+    private Long userId;
+    private String authToken;
+
+    @Setup
+    public void setUp() {
+        // O aspecto é registrado como fonte, e não por varredura, para não alcançar os testes de integração
+        Class<?>[] sources = {ApiRestApplication.class, StackCapturingAspect.class};
+        context = SpringApplication.run(sources, new String[] {
+                "--server.port=0",
+                "--benchmark.capture-stack=" + "stack".equals(exceptions),
+                "--logging.level.root=WARN",
+                "--password.bcrypt.target-millis=0",
+                // Com um único servlet registrado, a cadeia de segurança funciona sob o MockMvc
+                "--spring.h2.console.enabled=false"});
+
+        UserDTO user = context.getBean(UserService.class)
+                .createUser(new CreateUserRequest("João Silva", "joao@example.com", "senha123"));
+        userId = user.getId();
+        authToken = "Bearer " + context.getBean(JwtTokenProvider.class).generateToken(user.getEmail(), userId);
+
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context)
+                .apply(springSecurity())
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public MvcResult notFound() throws Exception {
+        return mockMvc.perform(get("/api/users/{id}", MISSING_USER_ID).header("Authorization", authToken)).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult found() throws Exception {
+        return mockMvc.perform(get("/api/users/{id}", userId).header("Authorization", authToken)).andReturn();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(NotFoundBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+
+    /**
+     * Relança a UserNotFoundException do UserService com uma causa que captura a pilha de chamadas,
+     * quando benchmark.capture-stack é true.
+     */
+    @Aspect
+    static class StackCapturingAspect {
+
+        private final boolean captureStack;
+
+        StackCapturingAspect(@Value("${benchmark.capture-stack}") boolean captureStack) {
+            this.captureStack = captureStack;
+        }
+
+        @Around("execution(* com.faculdade.service.UserService.*(..))")
+        public Object around(ProceedingJoinPoint joinPoint) throws Throwable {
+            try {
+                return joinPoint.proceed();
+            } catch (UserNotFoundException e) {
+                if (captureStack) {
+                    throw new UserNotFoundException(e.getMessage(), new RuntimeException(e.getMessage()));
+                }
+                throw e;
+            }
+        }
+    }
+}
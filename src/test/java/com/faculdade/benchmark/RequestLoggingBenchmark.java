@@ -0,0 +1,148 @@
+package com.faculdade.benchmark;
+
+import com.faculdade.ApiRestApplication;
+import com.faculdade.dto.CreateUserRequest;
+import com.faculdade.dto.UserDTO;
+import com.faculdade.security.JwtTokenProvider;
+import com.faculdade.service.UserService;
+import com.faculdade.service.UserServiceImpl;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Benchmark JMH do GET /api/users/{id}, passando pela cadeia de filtros completa (MockMvc),
+ * com a configuração de log anterior e a atual.
+ * "old-sync-console" reproduz a configuração anterior: ConsoleAppender síncrono do Spring Boot
+ * (benchmark/logback-sync-console.xml), sem log de acesso, e a linha INFO que o
+ * UserServiceImpl.getUserById escrevia a cada chamada ("Buscando usuário com ID: {}").
+ * "new-async-console" é a configuração atual: logback-spring.xml, com o log por requisição
+ * em DEBUG e o log de acesso amostrado em 1%.
+ * A saída padrão do fork é redirecionada para um arquivo temporário, para não misturar com a do JMH;
+ * com console=slow, cada escrita espera 50 µs antes, como um terminal ou pipe de logs congestionado.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class RequestLoggingBenchmark {
+
+    /**
+     * Logger e mensagem usados pelo UserServiceImpl antes da troca pelo log de acesso amostrado.
+     */
+    private static final Logger LEGACY_SERVICE_LOG = LoggerFactory.getLogger(UserServiceImpl.class);
+
+    private static final long SLOW_WRITE_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    @Param({"old-sync-console", "new-async-console"})
+    public String logging;
+
+    @Param({"file", "slow"})
+    public String console;
+
+    private boolean legacy;
+    private PrintStream originalOut;
+    private File logFile;
+    private ConfigurableApplicationContext context;
+    private MockMvc mockMvc;
+    private Long userId;
+    private String authToken;
+
+    @Setup
+    public void setUp() throws IOException {
+        legacy = "old-sync-console".equals(logging);
+
+        logFile = File.createTempFile("request-logging-benchmark", ".log");
+        OutputStream out = new FileOutputStream(logFile);
+        if ("slow".equals(console)) {
+            out = new SlowOutputStream(out);
+        }
+        originalOut = System.out;
+        System.setOut(new PrintStream(out, true));
+
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--password.bcrypt.target-millis=0",
+                // Com um único servlet registrado, a cadeia de segurança funciona sob o MockMvc
+                "--spring.h2.console.enabled=false"));
+        if (legacy) {
+            args.add("--logging.config=classpath:benchmark/logback-sync-console.xml");
+            args.add("--logging.access.enabled=false");
+        }
+        context = SpringApplication.run(ApiRestApplication.class, args.toArray(String[]::new));
+
+        UserDTO user = context.getBean(UserService.class)
+                .createUser(new CreateUserRequest("João Silva", "joao@example.com", "senha123"));
+        userId = user.getId();
+        authToken = "Bearer " + context.getBean(JwtTokenProvider.class).generateToken(user.getEmail(), userId);
+
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context)
+                .apply(springSecurity())
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+        System.setOut(originalOut);
+        logFile.delete();
+    }
+
+    @Benchmark
+    public MvcResult getUserById() throws Exception {
+        if (legacy) {
+            LEGACY_SERVICE_LOG.info("Buscando usuário com ID: {}", userId);
+        }
+        return mockMvc.perform(get("/api/users/{id}", userId).header("Authorization", authToken)).andReturn();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(RequestLoggingBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+
+    /**
+     * Saída que espera um intervalo fixo antes de cada escrita.
+     */
+    private static final class SlowOutputStream extends FilterOutputStream {
+
+        SlowOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            LockSupport.parkNanos(SLOW_WRITE_NANOS);
+            out.write(b, off, len);
+        }
+    }
+}
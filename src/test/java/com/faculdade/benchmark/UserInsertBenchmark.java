@@ -0,0 +1,154 @@
+package com.faculdade.benchmark;
+
+import com.faculdade.ApiRestApplication;
+import com.faculdade.domain.User;
+import com.faculdade.repository.UserRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH da inserção de usuários no H2.
+ * Compara três formas de inserir o mesmo lote de usuários:
+ * "insertOneByOne" faz um INSERT por transação (como no registro individual);
+ * "insertAllIdentity" insere tudo em uma única transação com o mapeamento anterior (ID por IDENTITY),
+ * em que cada INSERT é executado na hora para obter a chave e o lote JDBC não é usado;
+ * "insertAllBatched" insere tudo em uma única transação com a sequência pooled e lotes JDBC.
+ * A diferença entre os dois últimos isola o efeito da troca de IDENTITY por sequência com lotes,
+ * sem o custo dos commits. O resultado é expresso em usuários inseridos por milissegundo.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserInsertBenchmark {
+
+    private static final int USERS_PER_INVOCATION = 500;
+    private static final int BATCH_SIZE = 50;
+
+    private ConfigurableApplicationContext context;
+    private UserRepository userRepository;
+    private TransactionTemplate transaction;
+    private HikariDataSource identityDataSource;
+    private LocalContainerEntityManagerFactoryBean identityEntityManagerFactory;
+    private long sequence;
+
+    @Setup
+    public void setUp() {
+        context = SpringApplication.run(ApiRestApplication.class,
+                "--server.port=0",
+                "--logging.level.root=WARN",
+                "--password.bcrypt.target-millis=0");
+        userRepository = context.getBean(UserRepository.class);
+        transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        identityEntityManagerFactory = identityEntityManagerFactory();
+    }
+
+    @TearDown
+    public void tearDown() {
+        identityEntityManagerFactory.destroy();
+        identityDataSource.close();
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(USERS_PER_INVOCATION)
+    public void insertOneByOne() {
+        for (User user : newUsers()) {
+            transaction.executeWithoutResult(status -> userRepository.save(user));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(USERS_PER_INVOCATION)
+    public List<User> insertAllIdentity() {
+        List<User> users = newUsers();
+        EntityManager entityManager = identityEntityManagerFactory.getObject().createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            // Mesmo laço de UserRepositoryCustomImpl.insertAll
+            for (int i = 0; i < users.size(); i++) {
+                entityManager.persist(users.get(i));
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+            entityManager.flush();
+            entityManager.getTransaction().commit();
+        } finally {
+            entityManager.close();
+        }
+        return users;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(USERS_PER_INVOCATION)
+    public List<User> insertAllBatched() {
+        return userRepository.insertAll(newUsers());
+    }
+
+    /**
+     * Cria uma unidade de persistência separada, em outro banco H2 em memória, com a entidade User
+     * mapeada com ID por IDENTITY (benchmark/user-identity-orm.xml) e as mesmas propriedades de lote.
+     *
+     * @return a fábrica de EntityManager da configuração anterior
+     */
+    private LocalContainerEntityManagerFactoryBean identityEntityManagerFactory() {
+        identityDataSource = new HikariDataSource();
+        identityDataSource.setJdbcUrl("jdbc:h2:mem:identity_baseline;DB_CLOSE_DELAY=-1");
+        identityDataSource.setUsername("sa");
+
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(identityDataSource);
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setPersistenceUnitName("identity-baseline");
+        factory.setManagedTypes(PersistenceManagedTypes.of(User.class.getName()));
+        factory.setMappingResources("benchmark/user-identity-orm.xml");
+        factory.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create-drop",
+                "hibernate.jdbc.batch_size", String.valueOf(BATCH_SIZE),
+                "hibernate.order_inserts", "true"));
+        factory.afterPropertiesSet();
+        return factory;
+    }
+
+    private List<User> newUsers() {
+        List<User> users = new ArrayList<>(USERS_PER_INVOCATION);
+        for (int i = 0; i < USERS_PER_INVOCATION; i++) {
+            long n = sequence++;
+            users.add(User.builder()
+                    .name("Usuário " + n)
+                    .email("usuario" + n + "@example.com")
+                    .password("$2a$10$abcdefghijklmnopqrstuuABCDEFGHIJKLMNOPQRSTUVWXYZ01234")
+                    .active(true)
+                    .build());
+        }
+        return users;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(UserInsertBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,92 @@
+package com.faculdade.benchmark;
+
+import com.faculdade.domain.User;
+import com.faculdade.dto.UserDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH do mapeamento de usuários para a resposta da API:
+ * conversão da entidade para UserDTO e serialização JSON com Jackson,
+ * de um usuário e de uma página de 20 usuários.
+ * O ObjectMapper é configurado como o do Spring Boot (Jackson2ObjectMapperBuilder).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserMappingBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private User user;
+    private UserDTO userDTO;
+    private List<UserDTO> page;
+    private ObjectMapper objectMapper;
+    private ObjectWriter userWriter;
+
+    @Setup
+    public void setUp() {
+        user = newUser(1);
+        userDTO = UserDTO.fromEntity(user);
+        page = new ArrayList<>(PAGE_SIZE);
+        for (int i = 1; i <= PAGE_SIZE; i++) {
+            page.add(UserDTO.fromEntity(newUser(i)));
+        }
+
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        userWriter = objectMapper.writerFor(UserDTO.class);
+    }
+
+    @Benchmark
+    public UserDTO fromEntity() {
+        return UserDTO.fromEntity(user);
+    }
+
+    @Benchmark
+    public byte[] serializeUser() throws Exception {
+        return objectMapper.writeValueAsBytes(userDTO);
+    }
+
+    @Benchmark
+    public byte[] serializeUserWithTypedWriter() throws Exception {
+        return userWriter.writeValueAsBytes(userDTO);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    private static User newUser(int i) {
+        return User.builder()
+                .id((long) i)
+                .name("Usuário " + i)
+                .email("usuario" + i + "@example.com")
+                .password("$2a$10$abcdefghijklmnopqrstuuABCDEFGHIJKLMNOPQRSTUVWXYZ01234")
+                .active(true)
+                .createdAt(1697000000000L + i)
+                .updatedAt(1697000000000L + i)
+                .build();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(UserMappingBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,99 @@
+package com.faculdade.benchmark;
+
+import com.faculdade.ApiRestApplication;
+import com.faculdade.domain.User;
+import com.faculdade.dto.UserDTO;
+import com.faculdade.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH dos caminhos de leitura de usuários.
+ * Compara o carregamento da entidade completa seguido da conversão para DTO
+ * com a projeção que seleciona apenas as colunas do DTO.
+ * Execute com o profiler de GC para comparar a alocação por operação:
+ * {@code -prof gc} (métrica gc.alloc.rate.norm).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserReadPathBenchmark {
+
+    private static final int USERS = 100;
+
+    private ConfigurableApplicationContext context;
+    private UserRepository userRepository;
+    private TransactionTemplate readOnlyTransaction;
+    private Long userId;
+
+    @Setup
+    public void setUp() {
+        context = SpringApplication.run(ApiRestApplication.class,
+                "--server.port=0",
+                "--logging.level.root=WARN",
+                "--password.bcrypt.target-millis=0");
+        userRepository = context.getBean(UserRepository.class);
+
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        for (int i = 0; i < USERS; i++) {
+            User user = userRepository.save(User.builder()
+                    .name("Usuário " + i)
+                    .email("usuario" + i + "@example.com")
+                    .password("$2a$10$abcdefghijklmnopqrstuuABCDEFGHIJKLMNOPQRSTUVWXYZ01234")
+                    .active(true)
+                    .build());
+            userId = user.getId();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public UserDTO findByIdEntity() {
+        return readOnlyTransaction.execute(status ->
+                UserDTO.fromEntity(userRepository.findById(userId).orElseThrow()));
+    }
+
+    @Benchmark
+    public UserDTO findByIdProjection() {
+        return readOnlyTransaction.execute(status ->
+                userRepository.findDTOById(userId).orElseThrow());
+    }
+
+    @Benchmark
+    public List<UserDTO> findAllEntity() {
+        return readOnlyTransaction.execute(status ->
+                userRepository.findAll().stream().map(UserDTO::fromEntity).toList());
+    }
+
+    @Benchmark
+    public List<UserDTO> findAllProjection() {
+        return readOnlyTransaction.execute(status -> userRepository.findAllDTOs());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(UserReadPathBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build();
+        new Runner(options).run();
+    }
+}
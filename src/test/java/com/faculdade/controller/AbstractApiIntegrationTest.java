@@ -0,0 +1,664 @@
+package com.faculdade.controller;
+
+import com.faculdade.domain.User;
+import com.faculdade.dto.CreateUserRequest;
+import com.faculdade.dto.LoginRequest;
+import com.faculdade.dto.UpdateUserRequest;
+import com.faculdade.dto.UserDTO;
+import com.faculdade.repository.UserRepository;
+import com.faculdade.security.JwtTokenProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Cenários de integração da API executados contra as duas variantes.
+ * Os cenários usam apenas HTTP, pelo WebTestClient, e o banco compartilhado pelas duas;
+ * cada subclasse só escolhe a variante (ServletApiIntegrationTest e ReactiveApiIntegrationTest).
+ * Verificações presas a uma variante, como cache e estatísticas do Hibernate,
+ * ficam em UserControllerIntegrationTest e AuthControllerIntegrationTest.
+ */
+abstract class AbstractApiIntegrationTest {
+
+    @Autowired
+    protected WebTestClient webTestClient;
+
+    @Autowired
+    protected UserRepository userRepository;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private ObjectProvider<CacheManager> cacheManager;
+
+    protected UserDTO testUser;
+    protected String authToken;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        // A limpeza direta no repositório não passa pela invalidação do serviço
+        cacheManager.ifAvailable(manager -> manager.getCacheNames().forEach(name -> manager.getCache(name).clear()));
+
+        testUser = register("João Silva", "joao@example.com");
+        authToken = "Bearer " + jwtTokenProvider.generateToken(testUser.getEmail(), testUser.getId());
+    }
+
+    @Test
+    void testRegisterUserSuccess() {
+        // Act & Assert
+        webTestClient.post().uri("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateUserRequest("Maria Souza", "maria@example.com", "senha123"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.id").isNotEmpty()
+                .jsonPath("$.name").isEqualTo("Maria Souza")
+                .jsonPath("$.email").isEqualTo("maria@example.com");
+    }
+
+    @Test
+    void testRegisterUserWithDuplicateEmail() {
+        // Act & Assert
+        webTestClient.post().uri("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateUserRequest("Outro Nome", "joao@example.com", "senha456"))
+                .exchange()
+                .expectStatus().isEqualTo(409);
+    }
+
+    @Test
+    void testRegisterUserWithEmailDifferingOnlyInCase() {
+        // Act & Assert
+        webTestClient.post().uri("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateUserRequest("Outro Nome", "JOAO@example.com", "senha456"))
+                .exchange()
+                .expectStatus().isEqualTo(409);
+
+        assertEquals(1, userRepository.count());
+    }
+
+    @Test
+    void testRegisterUserWithInvalidData() {
+        // Act & Assert
+        webTestClient.post().uri("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateUserRequest("", "email-invalido", "123"))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.errors.email").isNotEmpty();
+    }
+
+    @Test
+    void testLoginSuccess() {
+        // Act & Assert
+        webTestClient.post().uri("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new LoginRequest("joao@example.com", "senha123"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.token").isNotEmpty()
+                .jsonPath("$.tokenType").isEqualTo("Bearer")
+                .jsonPath("$.user.email").isEqualTo("joao@example.com");
+    }
+
+    @Test
+    void testLoginIgnoresEmailCase() {
+        // Act & Assert
+        webTestClient.post().uri("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new LoginRequest("Joao@Example.COM", "senha123"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.token").isNotEmpty()
+                .jsonPath("$.user.email").isEqualTo("joao@example.com");
+    }
+
+    @Test
+    void testLoginWithInvalidPassword() {
+        // Act & Assert
+        webTestClient.post().uri("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new LoginRequest("joao@example.com", "senhaErrada"))
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    void testGetAllUsersWithoutAuth() {
+        // Act & Assert
+        webTestClient.get().uri("/api/users")
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    void testGetAllUsersSuccess() {
+        // Act & Assert
+        webTestClient.get().uri("/api/users")
+                .header("Authorization", authToken)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].name").isEqualTo("João Silva");
+    }
+
+    @Test
+    void testGetAllUsersWithCursorPagination() {
+        // Arrange
+        register("Maria Souza", "maria@example.com");
+
+        // Act & Assert: primeira página
+        String cursor = webTestClient.get().uri("/api/users?size=1")
+                .header("Authorization", authToken)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().value("Link", containsString("rel=\"next\""))
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].name").isEqualTo("João Silva")
+                .returnResult()
+                .getResponseHeaders()
+                .getFirst("X-Next-Cursor");
+
+        // Act & Assert: segunda e última página
+        webTestClient.get().uri("/api/users?size=1&cursor={cursor}", cursor)
+                .header("Authorization", authToken)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist("X-Next-Cursor")
+                .expectHeader().doesNotExist("Link")
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].name").isEqualTo("Maria Souza");
+    }
+
+    @Test
+    void testGetAllUsersWithOffsetPagination() {
+        // Arrange
+        register("Maria Souza", "maria@example.com");
+
+        // Act & Assert
+        webTestClient.get().uri("/api/users?page=1&size=1")
+                .header("Authorization", authToken)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist("Link")
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].name").isEqualTo("Maria Souza");
+    }
+
+    @Test
+    void testGetAllUsersWithOutOfRangePage() {
+        // Act & Assert: a página negativa e a que estouraria o offset são rejeitadas
+        webTestClient.get().uri("/api/users?page=-1")
+                .header("Authorization", authToken)
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        webTestClient.get().uri("/api/users?page={page}&size=20", Integer.MAX_VALUE)
+                .header("Authorization", authToken)
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void testGetAllUsersWithInvalidCursor() {
+        // Act & Assert
+        webTestClient.get().uri("/api/users?cursor={cursor}", "###")
+                .header("Authorization", authToken)
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void testGetAllUsersNotModifiedUntilCollectionChanges() {
+        // Arrange
+        String etag = webTestClient.get().uri("/api/users")
+                .header("Authorization", authToken)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(String.class)
+                .getResponseHeaders()
+                .getETag();
+        assertNotNull(etag);
+
+        // Act & Assert: coleção inalterada
+        webTestClient.get().uri("/api/users")
+                .header("Authorization", authToken)
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isNotModified();
+
+        // Act & Assert: novo usuário cadastrado
+        register("Maria Souza", "maria@example.com");
+
+        webTestClient.get().uri("/api/users")
+                .header("Authorization", authToken)
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2);
+    }
+
+    @Test
+    void testExportUsersAsNdjson() {
+        // Arrange
+        register("Maria Souza", "maria@example.com");
+
+        // Act
+        List<UserDTO> users = webTestClient.get().uri("/api/users/export")
+                .header("Authorization", authToken)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(UserDTO.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        // Assert
+        assertNotNull(users);
+        assertEquals(List.of("João Silva", "Maria Souza"), users.stream().map(UserDTO::getName).toList());
+    }
+
+    @Test
+    void testCreateUsersInBulkWithPartialFailures() {
+        // Arrange
+        List<CreateUserRequest> requests = List.of(
+                new CreateUserRequest("Maria Souza", "maria@example.com", "senha123"),
+                new CreateUserRequest("João Duplicado", "joao@example.com", "senha123"),
+                new CreateUserRequest("Pedro Lima", "email-invalido", "senha123"),
+                new CreateUserRequest("Maria Repetida", "maria@example.com", "senha123"),
+                new CreateUserRequest("Ana Costa", "ana@example.com", "senha123"));
+
+        // Act & Assert
+        webTestClient.post().uri("/api/users/bulk")
+                .header("Authorization", authToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requests)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.created").isEqualTo(2)
+                .jsonPath("$.failed").isEqualTo(3)
+                .jsonPath("$.results[0].status").isEqualTo("CREATED")
+                .jsonPath("$.results[0].id").isNotEmpty()
+                .jsonPath("$.results[1].status").isEqualTo("DUPLICATE")
+                .jsonPath("$.results[2].status").isEqualTo("INVALID")
+                .jsonPath("$.results[3].status").isEqualTo("DUPLICATE")
+                .jsonPath("$.results[4].status").isEqualTo("CREATED");
+
+        assertEquals(3, userRepository.count());
+
+        webTestClient.post().uri("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new LoginRequest("ana@example.com", "senha123"))
+                .exchange()
+                .expectStatus().isOk();
+    }
+
+    @Test
+    void testCreateUsersInBulkWithNullItem() {
+        // Act & Assert
+        webTestClient.post().uri("/api/users/bulk")
+                .header("Authorization", authToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("[null, {\"name\": \"Maria Souza\", \"email\": \"maria@example.com\", \"password\": \"senha123\"}]")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.created").isEqualTo(1)
+                .jsonPath("$.results[0].status").isEqualTo("INVALID")
+                .jsonPath("$.results[1].status").isEqualTo("CREATED");
+    }
+
+    @Test
+    void testCreateUsersInBulkAboveMaxSize() {
+        // Arrange
+        List<CreateUserRequest> requests = Collections.nCopies(1001,
+                new CreateUserRequest("Maria Souza", "maria@example.com", "senha123"));
+
+        // Act & Assert
+        webTestClient.post().uri("/api/users/bulk")
+                .header("Authorization", authToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requests)
+                .exchange()
+                .expectStatus().isEqualTo(413);
+
+        assertEquals(1, userRepository.count());
+    }
+
+    @Test
+    void testCreateUsersInBulkAboveMaxBodySize() {
+        // Arrange
+        String name = "a".repeat(1024 * 1024);
+
+        // Act & Assert
+        webTestClient.post().uri("/api/users/bulk")
+                .header("Authorization", authToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of(new CreateUserRequest(name, "maria@example.com", "senha123")))
+                .exchange()
+                .expectStatus().isEqualTo(413);
+
+        assertEquals(1, userRepository.count());
+    }
+
+    @Test
+    void testCreateUsersInBulkWithMalformedBody() {
+        // Act & Assert
+        webTestClient.post().uri("/api/users/bulk")
+                .header("Authorization", authToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"name\": \"Maria Souza\"}")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void testGetUserByIdSuccess() {
+        // Act & Assert
+        webTestClient.get().uri("/api/users/{id}", testUser.getId())
+                .header("Authorization", authToken)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(testUser.getId())
+                .jsonPath("$.name").isEqualTo("João Silva")
+                .jsonPath("$.email").isEqualTo("joao@example.com");
+    }
+
+    @Test
+    void testGetUserByIdNotModifiedWithCurrentETag() {
+        // Arrange
+        String etag = webTestClient.get().uri("/api/users/{id}", testUser.getId())
+                .header("Authorization", authToken)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists(HttpHeaders.LAST_MODIFIED)
+                .returnResult(UserDTO.class)
+                .getResponseHeaders()
+                .getETag();
+        assertNotNull(etag);
+
+        // Act & Assert
+        webTestClient.get().uri("/api/users/{id}", testUser.getId())
+                .header("Authorization", authToken)
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, etag)
+                .expectBody().isEmpty();
+    }
+
+    @Test
+    void testGetUserByIdNotModifiedSinceLastChange() {
+        // Arrange
+        long updatedAt = findUser(testUser.getId()).getUpdatedAt();
+
+        // Act & Assert
+        webTestClient.get().uri("/api/users/{id}", testUser.getId())
+                .header("Authorization", authToken)
+                .headers(headers -> headers.setIfModifiedSince(updatedAt + 1000))
+                .exchange()
+                .expectStatus().isNotModified();
+    }
+
+    @Test
+    void testGetUserByIdReturnsNewETagAfterUpdate() {
+        // Arrange
+        String etag = webTestClient.get().uri("/api/users/{id}", testUser.getId())
+                .header("Authorization", authToken)
+                .exchange()
+                .returnResult(UserDTO.class)
+                .getResponseHeaders()
+                .getETag();
+
+        webTestClient.put().uri("/api/users/{id}", testUser.getId())
+                .header("Authorization", authToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateUserRequest("João Atualizado", "joao@example.com", "senha123"))
+                .exchange()
+                .expectStatus().isOk();
+
+        // Act
+        String newEtag = webTestClient.get().uri("/api/users/{id}", testUser.getId())
+                .header("Authorization", authToken)
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.name").isEqualTo("João Atualizado")
+                .returnResult()
+                .getResponseHeaders()
+                .getETag();
+
+        // Assert
+        assertNotEquals(etag, newEtag);
+    }
+
+    @Test
+    void testGetUserByIdNotFound() {
+        // Act & Assert
+        webTestClient.get().uri("/api/users/999999")
+                .header("Authorization", authToken)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void testUpdateUserSuccess() {
+        // Act & Assert
+        webTestClient.put().uri("/api/users/{id}", testUser.getId())
+                .header("Authorization", authToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateUserRequest("João Atualizado", "joao.novo@example.com", "novaSenha123"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.name").isEqualTo("João Atualizado")
+                .jsonPath("$.email").isEqualTo("joao.novo@example.com");
+
+        webTestClient.post().uri("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new LoginRequest("joao.novo@example.com", "novaSenha123"))
+                .exchange()
+                .expectStatus().isOk();
+    }
+
+    @Test
+    void testUpdateUserWithCurrentETag() {
+        // Arrange
+        long version = findUser(testUser.getId()).getVersion();
+        String etag = webTestClient.get().uri("/api/users/{id}", testUser.getId())
+                .header("Authorization", authToken)
+                .exchange()
+                .returnResult(UserDTO.class)
+                .getResponseHeaders()
+                .getETag();
+
+        // Act & Assert
+        webTestClient.put().uri("/api/users/{id}", testUser.getId())
+                .header("Authorization", authToken)
+                .header(HttpHeaders.IF_MATCH, etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateUserRequest("João Atualizado", "joao@example.com", "senha123"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.name").isEqualTo("João Atualizado");
+
+        assertEquals(version + 1, findUser(testUser.getId()).getVersion());
+    }
+
+    @Test
+    void testUpdateUserWithStaleETag() {
+        // Arrange: outra requisição altera o usuário depois da leitura
+        String etag = webTestClient.get().uri("/api/users/{id}", testUser.getId())
+                .header("Authorization", authToken)
+                .exchange()
+                .returnResult(UserDTO.class)
+                .getResponseHeaders()
+                .getETag();
+
+        webTestClient.put().uri("/api/users/{id}", testUser.getId())
+                .header("Authorization", authToken)
+                .header(HttpHeaders.IF_MATCH, etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateUserRequest("Primeira Alteração", "joao@example.com", "senha123"))
+                .exchange()
+                .expectStatus().isOk();
+
+        // Act & Assert
+        webTestClient.put().uri("/api/users/{id}", testUser.getId())
+                .header("Authorization", authToken)
+                .header(HttpHeaders.IF_MATCH, etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateUserRequest("Segunda Alteração", "joao@example.com", "senha123"))
+                .exchange()
+                .expectStatus().isEqualTo(412);
+
+        assertEquals("Primeira Alteração", findUser(testUser.getId()).getName());
+    }
+
+    @Test
+    void testUpdateUserWithWeakETag() {
+        // Arrange
+        String etag = "W/\"" + findUser(testUser.getId()).getVersion() + "\"";
+
+        // Act & Assert: If-Match usa comparação forte
+        webTestClient.put().uri("/api/users/{id}", testUser.getId())
+                .header("Authorization", authToken)
+                .header(HttpHeaders.IF_MATCH, etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateUserRequest("João Atualizado", "joao@example.com", "senha123"))
+                .exchange()
+                .expectStatus().isEqualTo(412);
+    }
+
+    @Test
+    void testPatchUserKeepsOmittedFieldsAndPassword() {
+        // Arrange
+        User before = findUser(testUser.getId());
+
+        // Act & Assert
+        webTestClient.patch().uri("/api/users/{id}", testUser.getId())
+                .header("Authorization", authToken)
+                .header(HttpHeaders.IF_MATCH, "\"" + before.getVersion() + "\"")
+                .contentType(MediaType.valueOf("application/merge-patch+json"))
+                .bodyValue(UpdateUserRequest.builder().name("João Atualizado").build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.name").isEqualTo("João Atualizado")
+                .jsonPath("$.email").isEqualTo("joao@example.com");
+
+        User updated = findUser(testUser.getId());
+        assertEquals(before.getPassword(), updated.getPassword());
+        assertEquals(before.getVersion() + 1, updated.getVersion());
+
+        webTestClient.post().uri("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new LoginRequest("joao@example.com", "senha123"))
+                .exchange()
+                .expectStatus().isOk();
+    }
+
+    @Test
+    void testPatchUserWithBlankName() {
+        // Act & Assert
+        webTestClient.patch().uri("/api/users/{id}", testUser.getId())
+                .header("Authorization", authToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(UpdateUserRequest.builder().name("   ").build())
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.errors.name").exists();
+    }
+
+    @Test
+    void testUpdateUserWithDuplicateEmail() {
+        // Arrange
+        UserDTO other = register("Maria Souza", "maria@example.com");
+
+        // Act & Assert
+        webTestClient.put().uri("/api/users/{id}", other.getId())
+                .header("Authorization", authToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateUserRequest("Maria Souza", "joao@example.com", "senha123"))
+                .exchange()
+                .expectStatus().isEqualTo(409);
+
+        assertEquals("maria@example.com", findUser(other.getId()).getEmail());
+    }
+
+    @Test
+    void testDeleteUserSuccess() {
+        // Act & Assert
+        webTestClient.delete().uri("/api/users/{id}", testUser.getId())
+                .header("Authorization", authToken)
+                .exchange()
+                .expectStatus().isNoContent();
+
+        webTestClient.get().uri("/api/users/{id}", testUser.getId())
+                .header("Authorization", authToken)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void testDeleteUserNotFound() {
+        // Act & Assert
+        webTestClient.delete().uri("/api/users/999999")
+                .header("Authorization", authToken)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    /**
+     * Cadastra um usuário pelo endpoint público de registro, com a senha senha123.
+     */
+    protected UserDTO register(String name, String email) {
+        return webTestClient.post().uri("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateUserRequest(name, email, "senha123"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(UserDTO.class)
+                .returnResult()
+                .getResponseBody();
+    }
+
+    /**
+     * Lê o usuário direto do banco, compartilhado pelas duas variantes.
+     */
+    protected User findUser(Long id) {
+        return userRepository.findById(id).orElseThrow();
+    }
+}
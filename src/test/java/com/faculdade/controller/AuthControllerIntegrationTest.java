@@ -1,29 +1,36 @@
 package com.faculdade.controller;
 
 import com.faculdade.domain.User;
-import com.faculdade.dto.CreateUserRequest;
 import com.faculdade.dto.LoginRequest;
 import com.faculdade.repository.UserRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
 import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
-import org.springframework.test.web.servlet.MvcResult;
 
-import static org.hamcrest.Matchers.notNullValue;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 /**
- * Testes de integração para o controlador de autenticação.
- * Testa os endpoints de login e registro em um contexto de aplicação completo.
+ * Testes de integração para o controlador de autenticação presos à variante servlet:
+ * atualização de hashes legados e número de comandos SQL do login.
+ * Os cenários de contrato de login e registro ficam em AbstractApiIntegrationTest.
  */
-@SpringBootTest
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
 @AutoConfigureMockMvc
 class AuthControllerIntegrationTest {
 
@@ -36,89 +43,53 @@ class AuthControllerIntegrationTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private CacheManager cacheManager;
+
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @BeforeEach
     void setUp() {
         userRepository.deleteAll();
+        // Os testes escrevem direto no repositório, sem passar pela invalidação do serviço
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
     }
 
     @Test
-    void testRegisterUserSuccess() throws Exception {
-        // Arrange
-        CreateUserRequest request = CreateUserRequest.builder()
-                .name("João Silva")
-                .email("joao@example.com")
-                .password("senha123")
-                .build();
-
-        // Act & Assert
-        mockMvc.perform(post("/api/auth/register")
-                .contentType(MediaType.APPLICATION_JSON)
-                .content(objectMapper.writeValueAsString(request)))
-                .andExpect(status().isCreated())
-                .andExpect(jsonPath("$.id", notNullValue()))
-                .andExpect(jsonPath("$.name").value("João Silva"))
-                .andExpect(jsonPath("$.email").value("joao@example.com"));
-    }
-
-    @Test
-    void testRegisterUserWithDuplicateEmail() throws Exception {
-        // Arrange
-        User existingUser = User.builder()
-                .name("João Silva")
-                .email("joao@example.com")
-                .password(passwordEncoder.encode("senha123"))
-                .active(true)
-                .build();
-        userRepository.save(existingUser);
-
-        CreateUserRequest request = CreateUserRequest.builder()
-                .name("Outro Nome")
-                .email("joao@example.com")
-                .password("senha456")
-                .build();
-
-        // Act & Assert
-        mockMvc.perform(post("/api/auth/register")
-                .contentType(MediaType.APPLICATION_JSON)
-                .content(objectMapper.writeValueAsString(request)))
-                .andExpect(status().isConflict());
-    }
-
-    @Test
-    void testLoginSuccess() throws Exception {
-        // Arrange
+    void testLoginUpgradesLegacyPasswordHash() throws Exception {
+        // Arrange: hash legado, sem prefixo e com custo diferente do configurado
         User user = User.builder()
                 .name("João Silva")
                 .email("joao@example.com")
-                .password(passwordEncoder.encode("senha123"))
+                .password(new BCryptPasswordEncoder(4).encode("senha123"))
                 .active(true)
                 .build();
-        userRepository.save(user);
+        user = userRepository.save(user);
 
         LoginRequest loginRequest = LoginRequest.builder()
                 .email("joao@example.com")
                 .password("senha123")
                 .build();
 
-        // Act & Assert
-        MvcResult result = mockMvc.perform(post("/api/auth/login")
+        // Act
+        mockMvc.perform(post("/api/auth/login")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(loginRequest)))
-                .andExpect(status().isOk())
-                .andExpect(jsonPath("$.token", notNullValue()))
-                .andExpect(jsonPath("$.tokenType").value("Bearer"))
-                .andExpect(jsonPath("$.user.email").value("joao@example.com"))
-                .andReturn();
+                .andExpect(status().isOk());
 
-        String response = result.getResponse().getContentAsString();
-        assertThat(response).contains("token");
+        // Assert
+        String upgradedHash = userRepository.findById(user.getId()).orElseThrow().getPassword();
+        assertThat(upgradedHash).startsWith("{bcrypt}");
+        assertThat(passwordEncoder.matches("senha123", upgradedHash)).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(upgradedHash)).isFalse();
     }
 
     @Test
-    void testLoginWithInvalidPassword() throws Exception {
+    void testLoginExecutesSingleStatement() throws Exception {
         // Arrange
         User user = User.builder()
                 .name("João Silva")
@@ -130,18 +101,20 @@ class AuthControllerIntegrationTest {
 
         LoginRequest loginRequest = LoginRequest.builder()
                 .email("joao@example.com")
-                .password("senhaErrada")
+                .password("senha123")
                 .build();
 
-        // Act & Assert
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Act
         mockMvc.perform(post("/api/auth/login")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(loginRequest)))
-                .andExpect(status().isUnauthorized());
-    }
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.user.email").value("joao@example.com"));
 
-    private void assertThat(String response) {
-        // Helper method for simple assertions
+        // Assert
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
     }
 }
-
@@ -0,0 +1,87 @@
+package com.faculdade.controller;
+
+import com.faculdade.domain.User;
+import com.faculdade.repository.UserRepository;
+import com.faculdade.security.JwtTokenProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Testes de integração do endpoint de métricas do Prometheus.
+ * Testa o acesso sem token e a exportação dos timers e contadores da aplicação.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class MetricsEndpointIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+
+        testUser = userRepository.save(User.builder()
+                .name("João Silva")
+                .email("joao@example.com")
+                .password("$2a$10$abcdefghijklmnopqrstuuABCDEFGHIJKLMNOPQRSTUVWXYZ01234")
+                .active(true)
+                .build());
+    }
+
+    @Test
+    void testPrometheusEndpointIsPublic() throws Exception {
+        // Act & Assert: um token inválido não é verificado nem rejeitado nesta cadeia
+        mockMvc.perform(get("/actuator/prometheus")
+                .header("Authorization", "Bearer token.invalido"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testPrometheusExportsApplicationMetrics() throws Exception {
+        // Arrange
+        String authToken = "Bearer " + jwtTokenProvider.generateToken(testUser.getEmail(), testUser.getId());
+        mockMvc.perform(get("/api/users/{id}", testUser.getId()).header("Authorization", authToken))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/users/{id}", testUser.getId()).header("Authorization", authToken))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/users/{id}", testUser.getId()).header("Authorization", "Bearer token.invalido"))
+                .andExpect(status().isUnauthorized());
+
+        // Act & Assert
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("jwt_sign_seconds_bucket")))
+                .andExpect(content().string(containsString("jwt_verify_seconds_bucket")))
+                .andExpect(content().string(containsString("jwt_filter_rejections_total{reason=\"invalid\"")))
+                .andExpect(content().string(containsString("user_service_seconds_bucket")))
+                .andExpect(content().string(containsString("method=\"getUserById\"")))
+                .andExpect(content().string(containsString("spring_data_repository_invocations_seconds_bucket")))
+                .andExpect(content().string(matchesPattern(
+                        "(?s).*cache_gets_total\\{cache=\"jwt\\.verified\",[^}]*result=\"hit\"[^}]*} [1-9].*")))
+                .andExpect(content().string(matchesPattern(
+                        "(?s).*cache_gets_total\\{cache=\"jwt\\.verified\",[^}]*result=\"miss\"[^}]*} [1-9].*")))
+                .andExpect(content().string(containsString("cache_evictions_total{cache=\"jwt.verified\"")))
+                .andExpect(content().string(containsString("cache_size{cache=\"jwt.verified\"")));
+    }
+}
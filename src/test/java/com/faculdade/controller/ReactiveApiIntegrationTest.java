@@ -0,0 +1,14 @@
+package com.faculdade.controller;
+
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Executa os cenários de AbstractApiIntegrationTest sobre a variante reativa (WebFlux e R2DBC).
+ */
+@SpringBootTest(properties = "spring.main.web-application-type=reactive")
+@ActiveProfiles("reactive")
+@AutoConfigureWebTestClient
+class ReactiveApiIntegrationTest extends AbstractApiIntegrationTest {
+}
@@ -0,0 +1,13 @@
+package com.faculdade.controller;
+
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Executa os cenários de AbstractApiIntegrationTest sobre a variante servlet (Spring MVC e JPA),
+ * com o WebTestClient ligado ao MockMvc.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ServletApiIntegrationTest extends AbstractApiIntegrationTest {
+}
@@ -1,26 +1,27 @@
 package com.faculdade.controller;
 
+import com.faculdade.config.CacheConfig;
 import com.faculdade.domain.User;
 import com.faculdade.repository.UserRepository;
 import com.faculdade.security.JwtTokenProvider;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
 import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
 
-import static org.hamcrest.Matchers.hasSize;
-import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 /**
- * Testes de integração para o controlador de usuários.
- * Testa os endpoints CRUD de usuários com autenticação JWT.
+ * Testes de integração para o controlador de usuários presos à variante servlet, como o cache de leituras.
+ * Os cenários de contrato dos endpoints ficam em AbstractApiIntegrationTest.
  */
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -30,10 +31,10 @@ class UserControllerIntegrationTest {
     private MockMvc mockMvc;
 
     @Autowired
-    private ObjectMapper objectMapper;
+    private UserRepository userRepository;
 
     @Autowired
-    private UserRepository userRepository;
+    private CacheManager cacheManager;
 
     @Autowired
     private PasswordEncoder passwordEncoder;
@@ -47,6 +48,8 @@ class UserControllerIntegrationTest {
     @BeforeEach
     void setUp() {
         userRepository.deleteAll();
+        // Os testes escrevem direto no repositório, sem passar pela invalidação do serviço
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
 
         testUser = User.builder()
                 .name("João Silva")
@@ -60,67 +63,23 @@ class UserControllerIntegrationTest {
     }
 
     @Test
-    void testGetAllUsersSuccess() throws Exception {
-        // Act & Assert
-        mockMvc.perform(get("/api/users")
-                .header("Authorization", authToken)
-                .contentType(MediaType.APPLICATION_JSON))
-                .andExpect(status().isOk())
-                .andExpect(jsonPath("$", hasSize(1)))
-                .andExpect(jsonPath("$[0].name").value("João Silva"));
-    }
-
-    @Test
-    void testGetAllUsersWithoutAuth() throws Exception {
-        // Act & Assert
-        mockMvc.perform(get("/api/users")
-                .contentType(MediaType.APPLICATION_JSON))
-                .andExpect(status().isUnauthorized());
-    }
-
-    @Test
-    void testGetUserByIdSuccess() throws Exception {
-        // Act & Assert
+    void testGetUserByIdIsCachedAndEvictedOnDelete() throws Exception {
+        // Act
         mockMvc.perform(get("/api/users/" + testUser.getId())
                 .header("Authorization", authToken)
                 .contentType(MediaType.APPLICATION_JSON))
-                .andExpect(status().isOk())
-                .andExpect(jsonPath("$.id").value(testUser.getId()))
-                .andExpect(jsonPath("$.name").value("João Silva"))
-                .andExpect(jsonPath("$.email").value("joao@example.com"));
-    }
+                .andExpect(status().isOk());
 
-    @Test
-    void testGetUserByIdNotFound() throws Exception {
-        // Act & Assert
-        mockMvc.perform(get("/api/users/999")
-                .header("Authorization", authToken)
-                .contentType(MediaType.APPLICATION_JSON))
-                .andExpect(status().isNotFound());
-    }
+        // Assert
+        assertNotNull(cacheManager.getCache(CacheConfig.USERS_BY_ID).get(testUser.getId()));
 
-    @Test
-    void testDeleteUserSuccess() throws Exception {
-        // Act & Assert
+        // Act
         mockMvc.perform(delete("/api/users/" + testUser.getId())
                 .header("Authorization", authToken)
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isNoContent());
 
-        // Verify user was deleted
-        mockMvc.perform(get("/api/users/" + testUser.getId())
-                .header("Authorization", authToken)
-                .contentType(MediaType.APPLICATION_JSON))
-                .andExpect(status().isNotFound());
-    }
-
-    @Test
-    void testDeleteUserNotFound() throws Exception {
-        // Act & Assert
-        mockMvc.perform(delete("/api/users/999")
-                .header("Authorization", authToken)
-                .contentType(MediaType.APPLICATION_JSON))
-                .andExpect(status().isNotFound());
+        // Assert
+        assertNull(cacheManager.getCache(CacheConfig.USERS_BY_ID).get(testUser.getId()));
     }
 }
-
@@ -0,0 +1,41 @@
+package com.faculdade.exception;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a classe RateLimitedWarning.
+ * Testa a supressão dentro do intervalo e a contagem das ocorrências suprimidas.
+ */
+class RateLimitedWarningTest {
+
+    @Test
+    void testFirstOccurrenceWarnsAndNextOnesAreSuppressed() {
+        // Arrange
+        RateLimitedWarning warning = new RateLimitedWarning(Duration.ofHours(1));
+
+        // Act & Assert
+        assertEquals(1, warning.record());
+        assertEquals(0, warning.record());
+        assertEquals(0, warning.record());
+    }
+
+    @Test
+    void testSuppressedOccurrencesAreReportedInNextWarning() throws InterruptedException {
+        // Arrange
+        RateLimitedWarning warning = new RateLimitedWarning(Duration.ofMillis(50));
+        warning.record();
+        warning.record();
+        warning.record();
+
+        // Act
+        Thread.sleep(60);
+        long reported = warning.record();
+
+        // Assert
+        assertEquals(3, reported);
+    }
+}
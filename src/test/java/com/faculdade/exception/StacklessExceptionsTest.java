@@ -0,0 +1,60 @@
+package com.faculdade.exception;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para as exceções sem pilha de chamadas.
+ * Testa UserNotFoundException e EmailAlreadyExistsException com e sem causa.
+ */
+class StacklessExceptionsTest {
+
+    @Test
+    void testUserNotFoundExceptionHasNoStackTrace() {
+        // Act
+        UserNotFoundException exception = new UserNotFoundException("Usuário não encontrado");
+
+        // Assert
+        assertEquals(0, exception.getStackTrace().length);
+        assertEquals("Usuário não encontrado", exception.getMessage());
+    }
+
+    @Test
+    void testUserNotFoundExceptionWithCauseKeepsCauseStackTrace() {
+        // Arrange
+        IllegalStateException cause = new IllegalStateException("causa");
+
+        // Act
+        UserNotFoundException exception = new UserNotFoundException("Usuário não encontrado", cause);
+
+        // Assert
+        assertEquals(0, exception.getStackTrace().length);
+        assertSame(cause, exception.getCause());
+        assertTrue(cause.getStackTrace().length > 0);
+    }
+
+    @Test
+    void testEmailAlreadyExistsExceptionHasNoStackTrace() {
+        // Act
+        EmailAlreadyExistsException exception = new EmailAlreadyExistsException("Email já cadastrado no sistema");
+
+        // Assert
+        assertEquals(0, exception.getStackTrace().length);
+        assertEquals("Email já cadastrado no sistema", exception.getMessage());
+    }
+
+    @Test
+    void testEmailAlreadyExistsExceptionWithCauseKeepsCauseStackTrace() {
+        // Arrange
+        IllegalStateException cause = new IllegalStateException("causa");
+
+        // Act
+        EmailAlreadyExistsException exception = new EmailAlreadyExistsException("Email já cadastrado no sistema", cause);
+
+        // Assert
+        assertEquals(0, exception.getStackTrace().length);
+        assertSame(cause, exception.getCause());
+        assertTrue(cause.getStackTrace().length > 0);
+    }
+}
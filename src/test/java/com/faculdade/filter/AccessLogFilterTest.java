@@ -0,0 +1,67 @@
+package com.faculdade.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para a classe AccessLogFilter.
+ * Testa o status registrado para respostas normais e para exceções que escapam da cadeia.
+ */
+@ExtendWith(MockitoExtension.class)
+class AccessLogFilterTest {
+
+    @Mock
+    private AccessLog accessLog;
+
+    @Mock
+    private FilterChain filterChain;
+
+    @InjectMocks
+    private AccessLogFilter accessLogFilter;
+
+    @Test
+    void testRecordsResponseStatus() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        doAnswer(invocation -> {
+            response.setStatus(404);
+            return null;
+        }).when(filterChain).doFilter(any(), any());
+
+        // Act
+        accessLogFilter.doFilter(request, response, filterChain);
+
+        // Assert
+        verify(accessLog, times(1)).record(eq("GET"), eq("/api/users/1"), eq(404), anyLong());
+    }
+
+    @Test
+    void testRecordsServerErrorWhenExceptionEscapes() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ServletException failure = new ServletException("falha");
+        doThrow(failure).when(filterChain).doFilter(any(), any());
+
+        // Act & Assert
+        ServletException thrown = assertThrows(ServletException.class, () ->
+                accessLogFilter.doFilter(request, response, filterChain));
+
+        assertSame(failure, thrown);
+        verify(accessLog, times(1)).record(eq("GET"), eq("/api/users/1"), eq(500), anyLong());
+    }
+}
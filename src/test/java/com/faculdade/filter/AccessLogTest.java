@@ -0,0 +1,49 @@
+package com.faculdade.filter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a classe AccessLog.
+ * Testa a amostragem e os casos sempre registrados (erros 5xx e requisições lentas).
+ */
+class AccessLogTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(800);
+
+    @Test
+    void testServerErrorsAndSlowRequestsAreAlwaysRecorded() {
+        // Arrange
+        AccessLog accessLog = new AccessLog(true, 0.0, 500);
+
+        // Act & Assert
+        assertFalse(accessLog.shouldRecord(200, FAST));
+        assertFalse(accessLog.shouldRecord(404, FAST));
+        assertTrue(accessLog.shouldRecord(500, FAST));
+        assertTrue(accessLog.shouldRecord(200, SLOW));
+    }
+
+    @Test
+    void testFullSampleRateRecordsEveryRequest() {
+        // Arrange
+        AccessLog accessLog = new AccessLog(true, 1.0, 500);
+
+        // Act & Assert
+        for (int i = 0; i < 100; i++) {
+            assertTrue(accessLog.shouldRecord(200, FAST));
+        }
+    }
+
+    @Test
+    void testDisabledAccessLog() {
+        // Arrange
+        AccessLog accessLog = new AccessLog(false, 1.0, 500);
+
+        // Act & Assert
+        assertFalse(accessLog.shouldRecord(500, SLOW));
+    }
+}
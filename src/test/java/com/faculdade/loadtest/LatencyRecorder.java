@@ -0,0 +1,96 @@
+package com.faculdade.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Registro das latências de uma operação em um único worker do teste de carga.
+ * Não é thread-safe: cada worker tem seus próprios registros, combinados ao final com merge
+ * (na malha aberta, os callbacks das respostas sincronizam no mapa de registros).
+ * Guarda todas as amostras, para que os percentis sejam exatos.
+ */
+class LatencyRecorder {
+
+    private long[] samples = new long[1024];
+    private int count;
+    private long errors;
+
+    /**
+     * Registra uma requisição concluída.
+     *
+     * @param latencyNanos a latência da requisição em nanossegundos
+     * @param success true se a resposta teve o status esperado
+     */
+    void record(long latencyNanos, boolean success) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, samples.length * 2);
+        }
+        samples[count++] = latencyNanos;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    /**
+     * Adiciona as amostras de outro registro a este.
+     *
+     * @param other o registro a ser combinado
+     */
+    void merge(LatencyRecorder other) {
+        if (count + other.count > samples.length) {
+            samples = Arrays.copyOf(samples, Math.max(samples.length * 2, count + other.count));
+        }
+        System.arraycopy(other.samples, 0, samples, count, other.count);
+        count += other.count;
+        errors += other.errors;
+    }
+
+    int count() {
+        return count;
+    }
+
+    long errors() {
+        return errors;
+    }
+
+    /**
+     * Calcula o resumo das latências registradas, em milissegundos.
+     *
+     * @return média, percentis 50/90/99/99.9 e máximo
+     */
+    LatencySummary summarize() {
+        if (count == 0) {
+            return new LatencySummary(0, 0, 0, 0, 0, 0);
+        }
+
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+
+        double total = 0;
+        for (long sample : sorted) {
+            total += sample;
+        }
+
+        return new LatencySummary(
+                toMillis(total / count),
+                toMillis(percentile(sorted, 0.50)),
+                toMillis(percentile(sorted, 0.90)),
+                toMillis(percentile(sorted, 0.99)),
+                toMillis(percentile(sorted, 0.999)),
+                toMillis(sorted[count - 1]));
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static double toMillis(double nanos) {
+        return Math.round(nanos / 1_000) / 1_000.0;
+    }
+
+    /**
+     * Resumo das latências de uma operação, em milissegundos.
+     */
+    record LatencySummary(double mean, double p50, double p90, double p99, double p999, double max) {
+    }
+}
@@ -0,0 +1,384 @@
+package com.faculdade.loadtest;
+
+import com.faculdade.ApiRestApplication;
+import com.faculdade.dto.BulkCreateUsersResponse;
+import com.faculdade.dto.BulkUserResult;
+import com.faculdade.dto.CreateUserRequest;
+import com.faculdade.dto.LoginRequest;
+import com.faculdade.security.JwtTokenProvider;
+import com.faculdade.service.UserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Teste de carga HTTP de ponta a ponta.
+ * Inicia a ApiRestApplication em uma porta aleatória com o H2 em memória, cadastra os usuários
+ * de teste e executa uma mistura de login, busca por ID, listagem e atualização de usuários
+ * com vários clientes concorrentes. Ao final, grava um relatório JSON com a vazão e os
+ * percentis de latência de cada operação, para comparação entre versões.
+ * <p>
+ * Sem loadtest.rate, roda em malha fechada: cada cliente só envia a próxima requisição quando a
+ * anterior termina, então um servidor lento também reduz a carga e as esperas que os clientes
+ * deixaram de gerar não aparecem na cauda (omissão coordenada). Com loadtest.rate, roda em malha
+ * aberta: as requisições são enviadas a uma taxa constante, independente das respostas, e a
+ * latência é medida a partir do horário programado para o envio, não do envio efetivo.
+ * <p>
+ * Executado pelo perfil Maven load-test; a configuração é lida das propriedades de sistema loadtest.*.
+ * O nome não termina em Test para que o surefire não o trate como uma classe de teste.
+ */
+public class LoadTestRunner {
+
+    private static final String PASSWORD = "senha123";
+
+    /**
+     * Operações executadas pelo teste de carga.
+     */
+    enum Operation {
+        LOGIN, GET_USER, LIST_USERS, UPDATE_USER
+    }
+
+    private final int users;
+    private final int concurrency;
+    private final int rate;
+    private final int warmupSeconds;
+    private final int durationSeconds;
+    private final long seed;
+    private final Map<Operation, Integer> mix;
+    private final File output;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+
+    private String baseUrl;
+    private List<Long> userIds;
+    private List<String> authHeaders;
+
+    LoadTestRunner(int users, int concurrency, int rate, int warmupSeconds, int durationSeconds, long seed,
+                   Map<Operation, Integer> mix, File output) {
+        this.users = users;
+        this.concurrency = concurrency;
+        this.rate = rate;
+        this.warmupSeconds = warmupSeconds;
+        this.durationSeconds = durationSeconds;
+        this.seed = seed;
+        this.mix = mix;
+        this.output = output;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        mix.put(Operation.LOGIN, Integer.getInteger("loadtest.mix.login", 10));
+        mix.put(Operation.GET_USER, Integer.getInteger("loadtest.mix.get", 60));
+        mix.put(Operation.LIST_USERS, Integer.getInteger("loadtest.mix.list", 20));
+        mix.put(Operation.UPDATE_USER, Integer.getInteger("loadtest.mix.update", 10));
+
+        LoadTestRunner runner = new LoadTestRunner(
+                Integer.getInteger("loadtest.users", 100),
+                Integer.getInteger("loadtest.concurrency", 16),
+                Integer.getInteger("loadtest.rate", 0),
+                Integer.getInteger("loadtest.warmup", 10),
+                Integer.getInteger("loadtest.duration", 30),
+                Long.getLong("loadtest.seed", 42L),
+                mix,
+                new File(System.getProperty("loadtest.output", "target/load-test-report.json")));
+
+        List<String> appArgs = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--logging.level.root=WARN",
+                "--password.bcrypt.target-millis=0"));
+        // Perfis Spring da aplicação sob teste, por exemplo virtual-threads
+        String profiles = System.getProperty("loadtest.profiles", "");
+        if (!profiles.isBlank()) {
+            appArgs.add("--spring.profiles.active=" + profiles);
+        }
+
+        ConfigurableApplicationContext context = SpringApplication.run(ApiRestApplication.class,
+                appArgs.toArray(String[]::new));
+        try {
+            runner.run(context);
+        } finally {
+            context.close();
+        }
+        System.exit(0);
+    }
+
+    /**
+     * Cadastra os usuários, executa o aquecimento e a medição e grava o relatório.
+     *
+     * @param context o contexto da aplicação em execução
+     */
+    void run(ConfigurableApplicationContext context) throws Exception {
+        baseUrl = "http://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port") + "/api/api";
+        seedUsers(context.getBean(UserService.class), context.getBean(JwtTokenProvider.class));
+
+        System.out.printf("Aquecimento: %d s, medição: %d s, %s, %d usuários%n",
+                warmupSeconds, durationSeconds,
+                rate > 0 ? "malha aberta a " + rate + " req/s" : concurrency + " clientes", users);
+
+        long measureStart = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long measureEnd = measureStart + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+        writeReport(rate > 0 ? runOpenLoop(measureStart, measureEnd) : runClosedLoop(measureStart, measureEnd));
+    }
+
+    /**
+     * Malha fechada: cada cliente envia uma requisição por vez.
+     */
+    private Map<Operation, LatencyRecorder> runClosedLoop(long measureStart, long measureEnd) throws Exception {
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        List<Future<Map<Operation, LatencyRecorder>>> results = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            Random random = new Random(seed + i);
+            results.add(workers.submit(() -> work(random, measureStart, measureEnd)));
+        }
+
+        Map<Operation, LatencyRecorder> merged = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            merged.put(operation, new LatencyRecorder());
+        }
+        for (Future<Map<Operation, LatencyRecorder>> result : results) {
+            result.get().forEach((operation, recorder) -> merged.get(operation).merge(recorder));
+        }
+        workers.shutdown();
+        return merged;
+    }
+
+    /**
+     * Malha aberta: envia as requisições a uma taxa constante, sem esperar as respostas.
+     * A latência de cada requisição é contada do horário programado para o envio, então um atraso
+     * do próprio gerador ou do servidor em aceitar a conexão entra na medida. Entram no relatório as
+     * requisições programadas dentro da janela de medição, mesmo as que terminam depois dela.
+     */
+    private Map<Operation, LatencyRecorder> runOpenLoop(long measureStart, long measureEnd) throws Exception {
+        Map<Operation, LatencyRecorder> recorders = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new LatencyRecorder());
+        }
+        int totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        Random random = new Random(seed);
+        double intervalNanos = (double) TimeUnit.SECONDS.toNanos(1) / rate;
+        long start = System.nanoTime();
+        List<CompletableFuture<Void>> inFlight = new ArrayList<>();
+
+        for (long i = 0; ; i++) {
+            long scheduled = start + (long) (i * intervalNanos);
+            if (scheduled >= measureEnd) {
+                break;
+            }
+            // Se o gerador atrasou, envia imediatamente, sem pular a requisição programada
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            Operation operation = pick(random.nextInt(totalWeight));
+            HttpRequest request = request(operation, random.nextInt(users));
+            boolean measured = scheduled >= measureStart;
+            CompletableFuture<Void> response = httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .handle((result, error) -> {
+                        long latency = System.nanoTime() - scheduled;
+                        if (measured) {
+                            // Os callbacks rodam nas threads do HttpClient
+                            synchronized (recorders) {
+                                recorders.get(operation).record(latency, error == null && result.statusCode() == 200);
+                            }
+                        }
+                        return null;
+                    });
+            if (measured) {
+                inFlight.add(response);
+            }
+        }
+
+        CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new)).join();
+        synchronized (recorders) {
+            return recorders;
+        }
+    }
+
+    /**
+     * Cadastra os usuários de teste pelo serviço e gera um token para cada um.
+     */
+    private void seedUsers(UserService userService, JwtTokenProvider jwtTokenProvider) {
+        List<CreateUserRequest> requests = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            requests.add(new CreateUserRequest("Usuário " + i, email(i), PASSWORD));
+        }
+
+        BulkCreateUsersResponse response = userService.createUsers(requests);
+        userIds = new ArrayList<>(users);
+        authHeaders = new ArrayList<>(users);
+        for (BulkUserResult result : response.getResults()) {
+            if (result.getStatus() != BulkUserResult.Status.CREATED) {
+                throw new IllegalStateException("Falha ao cadastrar usuário de teste: " + result.getMessage());
+            }
+            userIds.add(result.getId());
+            authHeaders.add("Bearer " + jwtTokenProvider.generateToken(result.getEmail(), result.getId()));
+        }
+    }
+
+    /**
+     * Laço de um cliente: sorteia operações conforme a mistura até o fim da medição.
+     * Requisições concluídas antes do início da medição (aquecimento) são descartadas.
+     */
+    private Map<Operation, LatencyRecorder> work(Random random, long measureStart, long measureEnd) throws IOException {
+        Map<Operation, LatencyRecorder> recorders = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new LatencyRecorder());
+        }
+        int totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+
+        while (System.nanoTime() < measureEnd) {
+            Operation operation = pick(random.nextInt(totalWeight));
+            int user = random.nextInt(users);
+            HttpRequest request = request(operation, user);
+
+            long start = System.nanoTime();
+            boolean success;
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                success = response.statusCode() == 200;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (IOException e) {
+                success = false;
+            }
+            long end = System.nanoTime();
+
+            if (start >= measureStart && end <= measureEnd) {
+                recorders.get(operation).record(end - start, success);
+            }
+        }
+        return recorders;
+    }
+
+    private Operation pick(int value) {
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            value -= entry.getValue();
+            if (value < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Mistura de operações vazia");
+    }
+
+    private HttpRequest request(Operation operation, int user) throws IOException {
+        Long id = userIds.get(user);
+        String authHeader = authHeaders.get(user);
+
+        return switch (operation) {
+            case LOGIN -> HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login"))
+                    .header("Content-Type", "application/json")
+                    .POST(json(new LoginRequest(email(user), PASSWORD)))
+                    .build();
+            case GET_USER -> HttpRequest.newBuilder(URI.create(baseUrl + "/users/" + id))
+                    .header("Authorization", authHeader)
+                    .GET()
+                    .build();
+            case LIST_USERS -> HttpRequest.newBuilder(URI.create(baseUrl + "/users?size=20"))
+                    .header("Authorization", authHeader)
+                    .GET()
+                    .build();
+            case UPDATE_USER -> HttpRequest.newBuilder(URI.create(baseUrl + "/users/" + id))
+                    .header("Authorization", authHeader)
+                    .header("Content-Type", "application/json")
+                    .PUT(json(new CreateUserRequest("Usuário " + user, email(user), PASSWORD)))
+                    .build();
+        };
+    }
+
+    private HttpRequest.BodyPublisher json(Object body) throws IOException {
+        return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+    }
+
+    private static String email(int user) {
+        return "carga" + user + "@example.com";
+    }
+
+    /**
+     * Grava o relatório JSON e imprime o resumo no console.
+     */
+    private void writeReport(Map<Operation, LatencyRecorder> recorders) throws IOException {
+        Map<String, Object> operations = new LinkedHashMap<>();
+        long totalRequests = 0;
+        long totalErrors = 0;
+
+        System.out.printf("%-12s %10s %8s %10s %9s %9s %9s %9s %9s%n",
+                "operação", "requisições", "erros", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "máx ms");
+        for (Map.Entry<Operation, LatencyRecorder> entry : recorders.entrySet()) {
+            LatencyRecorder recorder = entry.getValue();
+            LatencyRecorder.LatencySummary latency = recorder.summarize();
+            double throughput = (double) recorder.count() / durationSeconds;
+            totalRequests += recorder.count();
+            totalErrors += recorder.errors();
+
+            Map<String, Object> operation = new LinkedHashMap<>();
+            operation.put("requests", recorder.count());
+            operation.put("errors", recorder.errors());
+            operation.put("throughputPerSecond", round(throughput));
+            operation.put("latencyMs", latency);
+            operations.put(entry.getKey().name().toLowerCase(), operation);
+
+            System.out.printf("%-12s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    entry.getKey().name().toLowerCase(), recorder.count(), recorder.errors(), throughput,
+                    latency.p50(), latency.p90(), latency.p99(), latency.p999(), latency.max());
+        }
+
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("users", users);
+        config.put("mode", rate > 0 ? "open-loop" : "closed-loop");
+        if (rate > 0) {
+            config.put("ratePerSecond", rate);
+        } else {
+            config.put("concurrency", concurrency);
+        }
+        config.put("warmupSeconds", warmupSeconds);
+        config.put("durationSeconds", durationSeconds);
+        config.put("seed", seed);
+        config.put("mix", mix);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("timestamp", Instant.now().toString());
+        report.put("config", config);
+        report.put("requests", totalRequests);
+        report.put("errors", totalErrors);
+        report.put("throughputPerSecond", round((double) totalRequests / durationSeconds));
+        report.put("operations", operations);
+
+        File parent = output.getAbsoluteFile().getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(output, report);
+        System.out.printf("Total: %d requisições, %d erros, %.1f req/s. Relatório: %s%n",
+                totalRequests, totalErrors, (double) totalRequests / durationSeconds, output.getPath());
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
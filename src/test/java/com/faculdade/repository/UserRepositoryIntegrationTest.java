@@ -0,0 +1,89 @@
+package com.faculdade.repository;
+
+import com.faculdade.domain.User;
+import com.faculdade.service.EmailExistenceFilter;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração para o repositório de usuários.
+ * Verifica a inserção em massa agrupada em lotes JDBC e o registro dos emails no filtro.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+class UserRepositoryIntegrationTest {
+
+    private static final int USERS = 120;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EmailExistenceFilter emailExistenceFilter;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void testInsertAllUsesJdbcBatches() {
+        // Arrange
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            users.add(User.builder()
+                    .name("Usuário " + i)
+                    .email("usuario" + i + "@example.com")
+                    .password("encodedPassword")
+                    .active(true)
+                    .build());
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Act
+        List<User> saved = userRepository.insertAll(users);
+
+        // Assert
+        assertEquals(USERS, userRepository.count());
+        assertTrue(saved.stream().allMatch(user -> user.getId() != null));
+        assertEquals(USERS, statistics.getEntityInsertCount());
+        // Lotes de 50 INSERTs mais poucas chamadas à sequência, em vez de um statement por usuário
+        assertTrue(statistics.getPrepareStatementCount() < 10,
+                "Statements preparados: " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testInsertRegistersEmailInFilter() {
+        // Arrange
+        User user = User.builder()
+                .name("Ana Costa")
+                .email("Ana.Filtro@Example.com")
+                .password("encodedPassword")
+                .active(true)
+                .build();
+        assertFalse(emailExistenceFilter.mightContain("ana.filtro@example.com"));
+
+        // Act
+        userRepository.insertAll(List.of(user));
+
+        // Assert
+        assertTrue(emailExistenceFilter.mightContain("ana.filtro@example.com"));
+    }
+}
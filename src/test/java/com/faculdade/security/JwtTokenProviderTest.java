@@ -0,0 +1,74 @@
+package com.faculdade.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a classe JwtTokenProvider.
+ * Testa a geração e a verificação de tokens sem contexto Spring.
+ */
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "sua_chave_secreta_super_segura_com_minimo_256_bits_para_HS256";
+    private static final long EXPIRATION = 86400000L;
+
+    private SimpleMeterRegistry meterRegistry;
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        jwtTokenProvider = new JwtTokenProvider(SECRET, EXPIRATION, meterRegistry);
+    }
+
+    @Test
+    void testVerifyTokenSuccess() {
+        // Arrange
+        long before = System.currentTimeMillis();
+        String token = jwtTokenProvider.generateToken("joao@example.com", 1L);
+
+        // Act
+        Optional<JwtPrincipal> result = jwtTokenProvider.verifyToken(token);
+
+        // Assert
+        assertTrue(result.isPresent());
+        assertEquals("joao@example.com", result.get().getEmail());
+        assertEquals(1L, result.get().getUserId());
+        assertTrue(result.get().getExpiresAt() >= before + EXPIRATION - 1000);
+        assertEquals(1, meterRegistry.get("jwt.sign").timer().count());
+        assertEquals(1, meterRegistry.get("jwt.verify").tag("result", "valid").timer().count());
+    }
+
+    @Test
+    void testVerifyTokenWithInvalidSignature() {
+        // Arrange
+        JwtTokenProvider otherProvider = new JwtTokenProvider(SECRET + "_outra", EXPIRATION, new SimpleMeterRegistry());
+        String token = otherProvider.generateToken("joao@example.com", 1L);
+
+        // Act & Assert
+        assertTrue(jwtTokenProvider.verifyToken(token).isEmpty());
+        assertFalse(jwtTokenProvider.validateToken(token));
+    }
+
+    @Test
+    void testVerifyExpiredToken() {
+        // Arrange
+        JwtTokenProvider expiredProvider = new JwtTokenProvider(SECRET, -1000L, new SimpleMeterRegistry());
+        String token = expiredProvider.generateToken("joao@example.com", 1L);
+
+        // Act & Assert
+        assertTrue(jwtTokenProvider.verifyToken(token).isEmpty());
+    }
+
+    @Test
+    void testVerifyMalformedToken() {
+        // Act & Assert
+        assertTrue(jwtTokenProvider.verifyToken("token.invalido").isEmpty());
+        assertEquals(1, meterRegistry.get("jwt.verify").tag("result", "invalid").timer().count());
+    }
+}
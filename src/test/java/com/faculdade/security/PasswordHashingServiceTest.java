@@ -0,0 +1,76 @@
+package com.faculdade.security;
+
+import com.faculdade.exception.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes unitários para a classe PasswordHashingService.
+ * Testa a delegação ao encoder e a rejeição quando o pool está saturado.
+ */
+@ExtendWith(MockitoExtension.class)
+class PasswordHashingServiceTest {
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    private PasswordHashingService passwordHashingService;
+
+    @AfterEach
+    void tearDown() {
+        passwordHashingService.shutdown();
+    }
+
+    @Test
+    void testEncodeAndMatches() {
+        // Arrange
+        passwordHashingService = new PasswordHashingService(passwordEncoder, new SimpleMeterRegistry(), 1, 1);
+        when(passwordEncoder.encode("senha123")).thenReturn("encodedPassword");
+        when(passwordEncoder.matches("senha123", "encodedPassword")).thenReturn(true);
+
+        // Act & Assert
+        assertEquals("encodedPassword", passwordHashingService.encode("senha123"));
+        assertTrue(passwordHashingService.matches("senha123", "encodedPassword"));
+    }
+
+    @Test
+    void testRejectsWhenSaturated() throws Exception {
+        // Arrange
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        passwordHashingService = new PasswordHashingService(passwordEncoder, meterRegistry, 1, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(passwordEncoder.encode(anyString())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return "encodedPassword";
+        });
+
+        // Act: ocupa a única thread e a única posição da fila
+        CompletableFuture<String> running = passwordHashingService.encodeAsync("senha1");
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = passwordHashingService.encodeAsync("senha2");
+
+        // Assert
+        assertThrows(PasswordHashingUnavailableException.class,
+                () -> passwordHashingService.encodeAsync("senha3"));
+        assertEquals(1, meterRegistry.get("password.hashing.rejected").counter().count());
+
+        release.countDown();
+        assertEquals("encodedPassword", running.get(5, TimeUnit.SECONDS));
+        assertEquals("encodedPassword", queued.get(5, TimeUnit.SECONDS));
+    }
+}
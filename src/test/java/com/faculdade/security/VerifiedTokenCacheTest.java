@@ -0,0 +1,59 @@
+package com.faculdade.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a classe VerifiedTokenCache.
+ * Testa acertos, falhas, expiração e o desligamento do cache.
+ */
+class VerifiedTokenCacheTest {
+
+    private static final long ONE_HOUR = 3600000L;
+
+    @Test
+    void testGetAfterPut() {
+        // Arrange
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 100, new SimpleMeterRegistry());
+        JwtPrincipal principal = new JwtPrincipal("joao@example.com", 1L, System.currentTimeMillis() + ONE_HOUR);
+
+        // Act
+        cache.put("token", principal);
+
+        // Assert
+        assertSame(principal, cache.get("token").orElseThrow());
+        assertTrue(cache.get("outro-token").isEmpty());
+        assertEquals(1, cache.stats().hitCount());
+        assertEquals(1, cache.stats().missCount());
+    }
+
+    @Test
+    void testExpiredTokenIsNotCached() {
+        // Arrange
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 100, new SimpleMeterRegistry());
+        JwtPrincipal principal = new JwtPrincipal("joao@example.com", 1L, System.currentTimeMillis() - 1);
+
+        // Act
+        cache.put("token", principal);
+
+        // Assert
+        assertTrue(cache.get("token").isEmpty());
+    }
+
+    @Test
+    void testDisabledCache() {
+        // Arrange
+        VerifiedTokenCache cache = new VerifiedTokenCache(false, 100, new SimpleMeterRegistry());
+        JwtPrincipal principal = new JwtPrincipal("joao@example.com", 1L, System.currentTimeMillis() + ONE_HOUR);
+
+        // Act
+        cache.put("token", principal);
+
+        // Assert
+        assertFalse(cache.isEnabled());
+        assertTrue(cache.get("token").isEmpty());
+        assertEquals(0, cache.size());
+    }
+}
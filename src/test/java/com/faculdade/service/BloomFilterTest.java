@@ -0,0 +1,65 @@
+package com.faculdade.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a classe BloomFilter.
+ */
+class BloomFilterTest {
+
+    private static final int EMAILS = 10_000;
+
+    @Test
+    void testHasNoFalseNegatives() {
+        // Arrange
+        BloomFilter filter = BloomFilter.create(EMAILS, 0.01);
+
+        // Act
+        for (int i = 0; i < EMAILS; i++) {
+            filter.put("usuario" + i + "@example.com");
+        }
+
+        // Assert
+        for (int i = 0; i < EMAILS; i++) {
+            assertTrue(filter.mightContain("usuario" + i + "@example.com"));
+        }
+    }
+
+    @Test
+    void testFalsePositiveRateStaysNearTarget() {
+        // Arrange
+        BloomFilter filter = BloomFilter.create(EMAILS, 0.01);
+        for (int i = 0; i < EMAILS; i++) {
+            filter.put("usuario" + i + "@example.com");
+        }
+
+        // Act
+        int falsePositives = 0;
+        for (int i = 0; i < EMAILS; i++) {
+            if (filter.mightContain("outro" + i + "@example.com")) {
+                falsePositives++;
+            }
+        }
+
+        // Assert
+        assertTrue(falsePositives < EMAILS * 0.02, "Falsos positivos: " + falsePositives);
+        assertEquals(EMAILS, filter.insertions(), EMAILS * 0.02);
+        assertEquals(0.01, filter.expectedFalsePositiveRate(), 0.005);
+        assertTrue(filter.memoryBytes() < 16 * 1024, "Memória: " + filter.memoryBytes());
+    }
+
+    @Test
+    void testRepeatedPutDoesNotCountAsNewInsertion() {
+        // Arrange
+        BloomFilter filter = BloomFilter.create(100, 0.01);
+
+        // Act
+        filter.put("joao@example.com");
+        filter.put("joao@example.com");
+
+        // Assert
+        assertEquals(1, filter.insertions());
+    }
+}
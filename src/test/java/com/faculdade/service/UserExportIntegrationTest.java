@@ -0,0 +1,69 @@
+package com.faculdade.service;
+
+import com.faculdade.domain.User;
+import com.faculdade.dto.UserDTO;
+import com.faculdade.repository.UserRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração da exportação de usuários.
+ * Verifica que a leitura em lotes não retém conexões JDBC enquanto o consumidor processa os usuários.
+ */
+@SpringBootTest(properties = "api.users.export.batch-size=2")
+class UserExportIntegrationTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            users.add(User.builder()
+                    .name("Usuário " + i)
+                    .email("usuario" + i + "@example.com")
+                    .password("encodedPassword")
+                    .active(true)
+                    .build());
+        }
+        userRepository.insertAll(users);
+    }
+
+    @Test
+    void testExportDoesNotHoldConnectionWhileConsuming() {
+        // Arrange
+        HikariDataSource hikari = (HikariDataSource) dataSource;
+        List<UserDTO> exported = new ArrayList<>();
+        List<Integer> activeConnections = new ArrayList<>();
+
+        // Act
+        userService.exportUsers(user -> {
+            exported.add(user);
+            activeConnections.add(hikari.getHikariPoolMXBean().getActiveConnections());
+        });
+
+        // Assert
+        assertEquals(5, exported.size());
+        assertEquals("Usuário 0", exported.get(0).getName());
+        assertEquals("Usuário 4", exported.get(4).getName());
+        assertTrue(activeConnections.stream().allMatch(active -> active == 0),
+                "Conexões ativas durante o consumo: " + activeConnections);
+    }
+}
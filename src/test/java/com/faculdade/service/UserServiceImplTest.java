@@ -1,23 +1,38 @@
 package com.faculdade.service;
 
 import com.faculdade.domain.User;
+import com.faculdade.dto.BulkCreateUsersResponse;
+import com.faculdade.dto.BulkUserResult;
 import com.faculdade.dto.CreateUserRequest;
+import com.faculdade.dto.UpdateUserRequest;
 import com.faculdade.dto.UserDTO;
+import com.faculdade.exception.BulkRequestTooLargeException;
 import com.faculdade.exception.EmailAlreadyExistsException;
 import com.faculdade.exception.UserNotFoundException;
+import com.faculdade.exception.UserVersionMismatchException;
 import com.faculdade.repository.UserRepository;
+import com.faculdade.security.PasswordHashingService;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import jakarta.validation.Validator;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -32,7 +47,16 @@ class UserServiceImplTest {
     private UserRepository userRepository;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
+
+    @Mock
+    private UserCacheEvictor userCacheEvictor;
+
+    @Mock
+    private EmailExistenceFilter emailExistenceFilter;
+
+    @Mock
+    private Validator validator;
 
     @InjectMocks
     private UserServiceImpl userService;
@@ -61,9 +85,8 @@ class UserServiceImplTest {
     @Test
     void testCreateUserSuccess() {
         // Arrange
-        when(userRepository.existsByEmail(anyString())).thenReturn(false);
-        when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
-        when(userRepository.save(any(User.class))).thenReturn(testUser);
+        when(passwordHashingService.encode(anyString())).thenReturn("encodedPassword");
+        when(userRepository.saveAndFlush(any(User.class))).thenReturn(testUser);
 
         // Act
         UserDTO result = userService.createUser(createUserRequest);
@@ -72,28 +95,43 @@ class UserServiceImplTest {
         assertNotNull(result);
         assertEquals("João Silva", result.getName());
         assertEquals("joao@example.com", result.getEmail());
-        verify(userRepository, times(1)).existsByEmail(anyString());
-        verify(userRepository, times(1)).save(any(User.class));
+        verify(userRepository, times(1)).saveAndFlush(any(User.class));
     }
 
     @Test
     void testCreateUserWithDuplicateEmail() {
         // Arrange
-        when(userRepository.existsByEmail(anyString())).thenReturn(true);
+        when(passwordHashingService.encode(anyString())).thenReturn("encodedPassword");
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(new DataIntegrityViolationException(
+                "duplicado",
+                new ConstraintViolationException("duplicado", null, "PUBLIC.UK_USERS_EMAIL_INDEX_4")));
 
         // Act & Assert
         assertThrows(EmailAlreadyExistsException.class, () -> {
             userService.createUser(createUserRequest);
         });
 
-        verify(userRepository, times(1)).existsByEmail(anyString());
-        verify(userRepository, never()).save(any(User.class));
+        verify(userCacheEvictor, never()).evict(any());
+    }
+
+    @Test
+    void testCreateUserWithOtherConstraintViolation() {
+        // Arrange
+        when(passwordHashingService.encode(anyString())).thenReturn("encodedPassword");
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(new DataIntegrityViolationException(
+                "outra restrição",
+                new ConstraintViolationException("outra restrição", null, "PUBLIC.OUTRA_RESTRICAO")));
+
+        // Act & Assert
+        assertThrows(DataIntegrityViolationException.class, () -> {
+            userService.createUser(createUserRequest);
+        });
     }
 
     @Test
     void testGetUserByIdSuccess() {
         // Arrange
-        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        when(userRepository.findDTOById(1L)).thenReturn(Optional.of(UserDTO.fromEntity(testUser)));
 
         // Act
         UserDTO result = userService.getUserById(1L);
@@ -101,20 +139,94 @@ class UserServiceImplTest {
         // Assert
         assertNotNull(result);
         assertEquals("João Silva", result.getName());
-        verify(userRepository, times(1)).findById(1L);
+        verify(userRepository, times(1)).findDTOById(1L);
+        verify(userRepository, never()).findById(anyLong());
     }
 
     @Test
     void testGetUserByIdNotFound() {
         // Arrange
-        when(userRepository.findById(1L)).thenReturn(Optional.empty());
+        when(userRepository.findDTOById(1L)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(UserNotFoundException.class, () -> {
             userService.getUserById(1L);
         });
 
-        verify(userRepository, times(1)).findById(1L);
+        verify(userRepository, times(1)).findDTOById(1L);
+    }
+
+    @Test
+    void testGetUserVersionNotFound() {
+        // Arrange
+        when(userRepository.findVersionById(1L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(UserNotFoundException.class, () -> userService.getUserVersion(1L));
+
+        verify(userRepository, never()).findDTOById(1L);
+    }
+
+    @Test
+    void testUpdateUserWithStaleVersionSkipsHashing() {
+        // Arrange
+        testUser.setVersion(3L);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+
+        // Act & Assert
+        assertThrows(UserVersionMismatchException.class, () -> userService.updateUser(1L, createUserRequest, 2L));
+
+        verify(passwordHashingService, never()).encode(anyString());
+        verify(userRepository, never()).saveAndFlush(any(User.class));
+    }
+
+    @Test
+    void testUpdateUserTranslatesConcurrentUpdateWhenVersionExpected() {
+        // Arrange
+        testUser.setVersion(3L);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        when(passwordHashingService.encode("senha123")).thenReturn("encodedPassword");
+        when(userRepository.saveAndFlush(testUser))
+                .thenThrow(new ObjectOptimisticLockingFailureException(User.class, 1L));
+
+        // Act & Assert
+        assertThrows(UserVersionMismatchException.class, () -> userService.updateUser(1L, createUserRequest, 3L));
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+                () -> userService.updateUser(1L, createUserRequest, null));
+    }
+
+    @Test
+    void testPatchUserWithoutPasswordSkipsHashing() {
+        // Arrange
+        testUser.setVersion(3L);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        when(userRepository.saveAndFlush(testUser)).thenReturn(testUser);
+        UpdateUserRequest request = UpdateUserRequest.builder().name("João Atualizado").build();
+
+        // Act
+        UserDTO result = userService.patchUser(1L, request, 3L);
+
+        // Assert
+        assertEquals("João Atualizado", result.getName());
+        assertEquals("joao@example.com", result.getEmail());
+        assertEquals("encodedPassword", testUser.getPassword());
+        verify(passwordHashingService, never()).encode(anyString());
+    }
+
+    @Test
+    void testPatchUserWithPasswordRehashes() {
+        // Arrange
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        when(userRepository.saveAndFlush(testUser)).thenReturn(testUser);
+        when(passwordHashingService.encode("novaSenha123")).thenReturn("newEncodedPassword");
+        UpdateUserRequest request = UpdateUserRequest.builder().password("novaSenha123").build();
+
+        // Act
+        userService.patchUser(1L, request, null);
+
+        // Assert
+        assertEquals("newEncodedPassword", testUser.getPassword());
+        assertEquals("João Silva", testUser.getName());
     }
 
     @Test
@@ -128,6 +240,7 @@ class UserServiceImplTest {
         // Assert
         verify(userRepository, times(1)).findById(1L);
         verify(userRepository, times(1)).delete(testUser);
+        verify(userCacheEvictor, times(1)).evict(1L);
     }
 
     @Test
@@ -143,5 +256,146 @@ class UserServiceImplTest {
         verify(userRepository, times(1)).findById(1L);
         verify(userRepository, never()).delete(any(User.class));
     }
-}
 
+    @Test
+    void testCreateUsersFallsBackToSingleInsertsWhenBatchFails() {
+        // Arrange
+        ReflectionTestUtils.setField(userService, "bulkChunkSize", 500);
+        ReflectionTestUtils.setField(userService, "bulkMaxSize", 1000);
+        List<CreateUserRequest> requests = List.of(
+                new CreateUserRequest("Maria Souza", "maria@example.com", "senha123"),
+                new CreateUserRequest("Ana Costa", "ana@example.com", "senha123"));
+
+        when(emailExistenceFilter.mightContain(anyString())).thenReturn(true);
+        when(userRepository.findExistingNormalizedEmails(any())).thenReturn(Set.of());
+        when(passwordHashingService.encodeAll(anyList())).thenReturn(List.of("hash1", "hash2"));
+        when(userRepository.insertAll(anyList()))
+                .thenAnswer(invocation -> {
+                    // Simula o lote desfeito depois de o Hibernate já ter atribuído ID e versão
+                    List<User> users = invocation.getArgument(0);
+                    users.forEach(user -> {
+                        user.setId(99L);
+                        user.setVersion(0L);
+                    });
+                    throw new DataIntegrityViolationException("duplicado");
+                })
+                .thenAnswer(invocation -> {
+                    User user = invocation.<List<User>>getArgument(0).get(0);
+                    assertNull(user.getId());
+                    assertNull(user.getVersion());
+                    user.setId(10L);
+                    return List.of(user);
+                })
+                .thenThrow(new DataIntegrityViolationException("duplicado",
+                        new ConstraintViolationException("duplicado", null, "PUBLIC.UK_USERS_NORMALIZED_EMAIL_INDEX_4")));
+
+        // Act
+        BulkCreateUsersResponse result = userService.createUsers(requests);
+
+        // Assert
+        assertEquals(1, result.getCreated());
+        assertEquals(1, result.getFailed());
+        assertEquals(BulkUserResult.Status.CREATED, result.getResults().get(0).getStatus());
+        assertEquals(10L, result.getResults().get(0).getId());
+        assertEquals(BulkUserResult.Status.DUPLICATE, result.getResults().get(1).getStatus());
+        verify(userRepository, times(1)).findExistingNormalizedEmails(any());
+        verify(userRepository, times(3)).insertAll(anyList());
+        verify(userRepository, never()).save(any(User.class));
+    }
+
+    @Test
+    void testCreateUsersReportsOtherIntegrityViolationsAsFailed() {
+        // Arrange
+        ReflectionTestUtils.setField(userService, "bulkChunkSize", 500);
+        ReflectionTestUtils.setField(userService, "bulkMaxSize", 1000);
+        List<CreateUserRequest> requests = List.of(
+                new CreateUserRequest("Maria Souza", "maria@example.com", "senha123"));
+
+        when(emailExistenceFilter.mightContain(anyString())).thenReturn(false);
+        when(passwordHashingService.encodeAll(anyList())).thenReturn(List.of("hash1"));
+        when(userRepository.insertAll(anyList()))
+                .thenThrow(new DataIntegrityViolationException("outra restrição"))
+                .thenThrow(new DataIntegrityViolationException("outra restrição",
+                        new ConstraintViolationException("outra restrição", null, "PUBLIC.OUTRA_RESTRICAO")));
+
+        // Act
+        BulkCreateUsersResponse result = userService.createUsers(requests);
+
+        // Assert
+        assertEquals(0, result.getCreated());
+        assertEquals(1, result.getFailed());
+        assertEquals(BulkUserResult.Status.FAILED, result.getResults().get(0).getStatus());
+    }
+
+    @Test
+    void testCreateUsersReportsNullItemsAsInvalid() {
+        // Arrange
+        ReflectionTestUtils.setField(userService, "bulkChunkSize", 500);
+        ReflectionTestUtils.setField(userService, "bulkMaxSize", 1000);
+        List<CreateUserRequest> requests = Arrays.asList(
+                null,
+                new CreateUserRequest("Maria Souza", "maria@example.com", "senha123"));
+
+        when(emailExistenceFilter.mightContain(anyString())).thenReturn(false);
+        when(passwordHashingService.encodeAll(anyList())).thenReturn(List.of("hash1"));
+        when(userRepository.insertAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        BulkCreateUsersResponse result = userService.createUsers(requests);
+
+        // Assert
+        assertEquals(1, result.getCreated());
+        assertEquals(1, result.getFailed());
+        assertEquals(BulkUserResult.Status.INVALID, result.getResults().get(0).getStatus());
+        assertNull(result.getResults().get(0).getEmail());
+        assertEquals(BulkUserResult.Status.CREATED, result.getResults().get(1).getStatus());
+    }
+
+    @Test
+    void testCreateUsersRejectsRequestAboveMaxSize() {
+        // Arrange
+        ReflectionTestUtils.setField(userService, "bulkMaxSize", 1);
+        List<CreateUserRequest> requests = List.of(
+                new CreateUserRequest("Maria Souza", "maria@example.com", "senha123"),
+                new CreateUserRequest("Ana Costa", "ana@example.com", "senha123"));
+
+        // Act & Assert
+        assertThrows(BulkRequestTooLargeException.class, () -> userService.createUsers(requests));
+
+        verify(passwordHashingService, never()).encodeAll(anyList());
+        verify(userRepository, never()).insertAll(anyList());
+    }
+
+    @Test
+    void testCreateUsersSkipsExistenceQueryWhenFilterRulesOutAllEmails() {
+        // Arrange
+        ReflectionTestUtils.setField(userService, "bulkChunkSize", 500);
+        ReflectionTestUtils.setField(userService, "bulkMaxSize", 1000);
+        List<CreateUserRequest> requests = List.of(
+                new CreateUserRequest("Maria Souza", "maria@example.com", "senha123"));
+
+        when(emailExistenceFilter.mightContain("maria@example.com")).thenReturn(false);
+        when(passwordHashingService.encodeAll(anyList())).thenReturn(List.of("hash1"));
+        when(userRepository.insertAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        BulkCreateUsersResponse result = userService.createUsers(requests);
+
+        // Assert
+        assertEquals(1, result.getCreated());
+        verify(userRepository, never()).findExistingNormalizedEmails(any());
+    }
+
+    @Test
+    void testGetUserByEmailAlwaysQueriesRepository() {
+        // Arrange
+        when(userRepository.findByNormalizedEmail("desconhecido@example.com")).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(UserNotFoundException.class, () ->
+                userService.getUserByEmail("Desconhecido@Example.com"));
+
+        verify(userRepository, times(1)).findByNormalizedEmail("desconhecido@example.com");
+        verifyNoInteractions(emailExistenceFilter);
+    }
+}